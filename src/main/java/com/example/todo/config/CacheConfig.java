@@ -0,0 +1,16 @@
+package com.example.todo.config;/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * Cache Config, the caches themselves are Caffeine caches configured in application yml
+ */
+
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    // To-do by id, filled by getToDoById and evicted by update and delete
+    public static final String TODO_BY_ID_CACHE = "todoById";
+}
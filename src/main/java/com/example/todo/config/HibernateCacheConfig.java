@@ -0,0 +1,92 @@
+package com.example.todo.config;/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * Hibernate Cache Config, the second-level cache of TodoEntity and the query cache of the
+ * priority and status finders. Regions are JCache caches backed by Caffeine, created here
+ * with their own bounds, and their hit rates are published as metrics.
+ */
+
+import com.example.todo.entity.TodoEntity;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.function.ToDoubleFunction;
+
+@Configuration
+public class HibernateCacheConfig {
+
+    /**
+     * hibernateCacheManager - JCache manager holding every Hibernate cache region.
+     * The entity and query result regions are bounded by size and TTL, the TTL of query results
+     * also bounds how long a result read from a lagging replica can be served.
+     * The update timestamps region holds one entry per table and must never evict them.
+     *
+     * @return - cache manager handed to Hibernate, closed with the application context
+     */
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(@Value("${todo.hibernate-cache.entity.maximum-size:10000}") long entityMaximumSize,
+                                              @Value("${todo.hibernate-cache.entity.expire-after-write:5m}") Duration entityExpireAfterWrite,
+                                              @Value("${todo.hibernate-cache.query.maximum-size:1000}") long queryMaximumSize,
+                                              @Value("${todo.hibernate-cache.query.expire-after-write:1m}") Duration queryExpireAfterWrite) {
+        // A manager of its own per application context, test contexts side by side must not share or close each other's regions
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("urn:todo:hibernate:" + UUID.randomUUID()), getClass().getClassLoader());
+        cacheManager.createCache(TodoEntity.CACHE_REGION, region(entityMaximumSize, entityExpireAfterWrite));
+        cacheManager.createCache(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, region(queryMaximumSize, queryExpireAfterWrite));
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, new CaffeineConfiguration<>());
+        return cacheManager;
+    }
+
+    // Region creation is left to this class, Hibernate fails on startup if it needs a region not created above
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheProperties(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+        };
+    }
+
+    // Hit, miss and put counts of both caches, non zero only with hibernate.generate_statistics
+    @Bean
+    public MeterBinder hibernateCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        return registry -> {
+            cacheCounter(MetricsConfig.HIBERNATE_CACHE_REQUESTS, "entity", "hit", statistics, Statistics::getSecondLevelCacheHitCount).register(registry);
+            cacheCounter(MetricsConfig.HIBERNATE_CACHE_REQUESTS, "entity", "miss", statistics, Statistics::getSecondLevelCacheMissCount).register(registry);
+            cacheCounter(MetricsConfig.HIBERNATE_CACHE_PUTS, "entity", null, statistics, Statistics::getSecondLevelCachePutCount).register(registry);
+            cacheCounter(MetricsConfig.HIBERNATE_CACHE_REQUESTS, "query", "hit", statistics, Statistics::getQueryCacheHitCount).register(registry);
+            cacheCounter(MetricsConfig.HIBERNATE_CACHE_REQUESTS, "query", "miss", statistics, Statistics::getQueryCacheMissCount).register(registry);
+            cacheCounter(MetricsConfig.HIBERNATE_CACHE_PUTS, "query", null, statistics, Statistics::getQueryCachePutCount).register(registry);
+        };
+    }
+
+    private static CaffeineConfiguration<Object, Object> region(long maximumSize, Duration expireAfterWrite) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        configuration.setExpireAfterWrite(OptionalLong.of(expireAfterWrite.toNanos()));
+        return configuration;
+    }
+
+    private static FunctionCounter.Builder<Statistics> cacheCounter(String name, String cache, String result, Statistics statistics,
+                                                                    ToDoubleFunction<Statistics> count) {
+        FunctionCounter.Builder<Statistics> builder = FunctionCounter.builder(name, statistics, count).tag("cache", cache);
+        return result == null ? builder : builder.tag("result", result);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.todo.config;/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * Metrics Config, enables the @Timed and @Counted annotations used on the service
+ */
+
+import io.micrometer.core.aop.CountedAspect;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MetricsConfig {
+
+    // Latency of every TodoService method, tagged with class, method and exception
+    public static final String SERVICE_TIMER = "todo.service";
+
+    // Failed TodoService calls, tagged with method and exception (TodoNotFoundException for not-found outcomes)
+    public static final String SERVICE_FAILURES = "todo.service.failures";
+
+    // Open change feed connections, and subscribers disconnected because they fell behind
+    public static final String FEED_SUBSCRIBERS = "todo.feed.subscribers";
+
+    public static final String FEED_DROPPED = "todo.feed.dropped";
+
+    // To-do with write-behind updates waiting for a flush, updates merged into one already waiting,
+    // and updates dropped after failing todo.write-behind.max-attempts flushes
+    public static final String WRITE_BEHIND_PENDING = "todo.write-behind.pending";
+
+    public static final String WRITE_BEHIND_COALESCED = "todo.write-behind.coalesced";
+
+    public static final String WRITE_BEHIND_DROPPED = "todo.write-behind.dropped";
+
+    // Writes rejected with 429, tagged with reason rate_limit or bulkhead, and writes currently holding a bulkhead permit
+    public static final String ADMISSION_REJECTED = "todo.admission.rejected";
+
+    public static final String ADMISSION_WRITES_IN_FLIGHT = "todo.admission.writes.in-flight";
+
+    // Hibernate second-level (cache=entity) and query cache (cache=query) lookups tagged with result hit or miss, and puts
+    public static final String HIBERNATE_CACHE_REQUESTS = "todo.hibernate.cache.requests";
+
+    public static final String HIBERNATE_CACHE_PUTS = "todo.hibernate.cache.puts";
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public CountedAspect countedAspect(MeterRegistry meterRegistry) {
+        return new CountedAspect(meterRegistry);
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.todo.config;/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * Routes read-only transactions to the replica pool and everything else to the primary.
+ * Wrapped in a LazyConnectionDataSourceProxy, so the route is picked at the first statement,
+ * once the transaction has been marked read-only.
+ */
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Supplier;
+
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY,
+        REPLICA
+    }
+
+    // Set while a read must see the latest writes, see onPrimary
+    private static final ThreadLocal<Boolean> PRIMARY_REQUIRED = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
+    /**
+     * onPrimary - Runs a read on the primary even inside a read-only transaction.
+     * Only connections first used inside the action are affected.
+     *
+     * @param action - read to run
+     * @return - result of the action
+     */
+    public static <T> T onPrimary(Supplier<T> action) {
+        Boolean previous = PRIMARY_REQUIRED.get();
+        PRIMARY_REQUIRED.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            PRIMARY_REQUIRED.set(previous);
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() && !PRIMARY_REQUIRED.get()
+                ? Route.REPLICA
+                : Route.PRIMARY;
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.todo.config;/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * Web Config, lets request params take status, priority and agenda range in any case
+ * and puts the to-do write endpoints behind admission control.
+ * Besides JSON, responses are written as CBOR (application/cbor) or Smile (application/x-jackson-smile)
+ * when the Accept header asks for them, with the same Jackson settings as JSON.
+ */
+
+import com.example.todo.model.TodoAgendaRange;
+import com.example.todo.model.TodoPriority;
+import com.example.todo.model.TodoStatus;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.format.FormatterRegistry;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class WebConfig implements WebMvcConfigurer {
+
+    @Autowired
+    private WriteAdmissionInterceptor writeAdmissionInterceptor;
+
+    // Built from Boot's Jackson builder so spring.jackson settings and modules apply as for JSON
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+
+    // Smile writes each repeated field name and short string value once, later ones are back references
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        SmileFactory smileFactory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        return new MappingJackson2SmileHttpMessageConverter(builder.factory(smileFactory).build());
+    }
+
+    @Override
+    public void addFormatters(FormatterRegistry registry) {
+        // Same parsing as the JSON body, "high" and "High" both bind to HIGH
+        registry.addConverter(String.class, TodoPriority.class, TodoPriority::fromValue);
+        registry.addConverter(String.class, TodoStatus.class, TodoStatus::fromValue);
+        registry.addConverter(String.class, TodoAgendaRange.class, TodoAgendaRange::fromValue);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        // Only writes are limited, the interceptor lets GET, HEAD and OPTIONS straight through
+        registry.addInterceptor(writeAdmissionInterceptor).addPathPatterns("/api/todos", "/api/todos/**");
+    }
+}
@@ -0,0 +1,155 @@
+package com.example.todo.config;/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * Admission control of the write endpoints, reads are never limited.
+ * Each client, by X-Client-Id header or else remote address, has a token bucket of
+ * todo.admission.burst writes refilled at todo.admission.rate-per-second, and at most
+ * todo.admission.max-concurrent-writes writes run at once. A write over either limit is
+ * rejected right away with 429 and Retry-After instead of queueing behind the others.
+ */
+
+import com.example.todo.exceptions.TodoTooManyRequestsException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class WriteAdmissionInterceptor implements HandlerInterceptor {
+
+    public static final String CLIENT_ID_HEADER = "X-Client-Id";
+
+    // Request attribute marking a write that holds a bulkhead permit
+    private static final String PERMIT_ATTRIBUTE = WriteAdmissionInterceptor.class.getName() + ".permit";
+
+    // Buckets of clients idle this long are dropped, a returning client starts with a full bucket
+    private static final Duration IDLE_BUCKET_EXPIRY = Duration.ofMinutes(10);
+
+    private static final long MAX_TRACKED_CLIENTS = 100_000;
+
+    @Value("${todo.admission.rate-per-second:50}")
+    private double ratePerSecond;
+
+    @Value("${todo.admission.burst:100}")
+    private int burst;
+
+    @Value("${todo.admission.max-concurrent-writes:32}")
+    private int maxConcurrentWrites;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Cache<String, TokenBucket> buckets;
+
+    private Semaphore writePermits;
+
+    private Counter rateLimited;
+
+    private Counter bulkheadFull;
+
+    @PostConstruct
+    void init() {
+        buckets = Caffeine.newBuilder()
+                .maximumSize(MAX_TRACKED_CLIENTS)
+                .expireAfterAccess(IDLE_BUCKET_EXPIRY)
+                .build();
+        writePermits = new Semaphore(maxConcurrentWrites);
+        rateLimited = meterRegistry.counter(MetricsConfig.ADMISSION_REJECTED, Tags.of("reason", "rate_limit"));
+        bulkheadFull = meterRegistry.counter(MetricsConfig.ADMISSION_REJECTED, Tags.of("reason", "bulkhead"));
+        meterRegistry.gauge(MetricsConfig.ADMISSION_WRITES_IN_FLIGHT, writePermits,
+                permits -> maxConcurrentWrites - permits.availablePermits());
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!isWrite(request)) {
+            return true;
+        }
+        String client = clientKey(request);
+        long waitNanos = buckets.get(client, key -> new TokenBucket(ratePerSecond, burst, System.nanoTime()))
+                .tryAcquire(System.nanoTime());
+        if (waitNanos > 0) {
+            rateLimited.increment();
+            throw new TodoTooManyRequestsException("Write rate limit exceeded for client: " + client,
+                    Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1)));
+        }
+        if (!writePermits.tryAcquire()) {
+            bulkheadFull.increment();
+            throw new TodoTooManyRequestsException("Too many writes in progress, try again shortly", 1);
+        }
+        request.setAttribute(PERMIT_ATTRIBUTE, Boolean.TRUE);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (request.getAttribute(PERMIT_ATTRIBUTE) != null) {
+            request.removeAttribute(PERMIT_ATTRIBUTE);
+            writePermits.release();
+        }
+    }
+
+    private boolean isWrite(HttpServletRequest request) {
+        String method = request.getMethod();
+        return !(HttpMethod.GET.matches(method) || HttpMethod.HEAD.matches(method) || HttpMethod.OPTIONS.matches(method));
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        String clientId = request.getHeader(CLIENT_ID_HEADER);
+        return clientId != null && !clientId.isBlank() ? clientId : request.getRemoteAddr();
+    }
+
+    /*
+     * Token bucket kept as a single theoretical arrival time (GCRA), updated with compare-and-set.
+     * A write is admitted while the arrival time is at most burst - 1 intervals ahead of now,
+     * each admitted write moves it one interval further.
+     */
+    static final class TokenBucket {
+
+        private final long intervalNanos;
+
+        private final long toleranceNanos;
+
+        private final AtomicLong arrivalNanos;
+
+        TokenBucket(double ratePerSecond, int burst, long nowNanos) {
+            this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / ratePerSecond);
+            this.toleranceNanos = intervalNanos * (burst - 1L);
+            this.arrivalNanos = new AtomicLong(nowNanos);
+        }
+
+        /**
+         * tryAcquire - Takes one token if there is one.
+         *
+         * @param nowNanos - current System.nanoTime
+         * @return - 0 when a token was taken, otherwise nanos until the next token
+         */
+        long tryAcquire(long nowNanos) {
+            while (true) {
+                long arrival = arrivalNanos.get();
+                long ahead = arrival - nowNanos;
+                if (ahead > toleranceNanos) {
+                    return ahead - toleranceNanos;
+                }
+                long next = (ahead < 0 ? nowNanos : arrival) + intervalNanos;
+                if (arrivalNanos.compareAndSet(arrival, next)) {
+                    return 0;
+                }
+            }
+        }
+    }
+}
@@ -1,6 +1,21 @@
 package com.example.todo.controller;
 
+import com.example.todo.model.TodoAgendaRange;
+import com.example.todo.model.TodoBulkCreateDto;
+import com.example.todo.model.TodoBulkDeleteDto;
+import com.example.todo.model.TodoBulkDeleteResultDto;
 import com.example.todo.model.TodoDto;
+import com.example.todo.model.TodoImportFormat;
+import com.example.todo.model.TodoImportReportDto;
+import com.example.todo.model.TodoPageDto;
+import com.example.todo.model.TodoPriority;
+import com.example.todo.model.TodoSearchResultDto;
+import com.example.todo.model.TodoStatsDto;
+import com.example.todo.model.TodoStatus;
+import com.example.todo.service.TodoChangeFeed;
+import com.example.todo.service.TodoImportService;
+import com.example.todo.service.TodoSearchService;
+import com.example.todo.service.TodoStats;
 import com.example.todo.service.TodoService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -10,11 +25,19 @@ import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.zip.GZIPOutputStream;
 /*
  * Author: Sachin
  * Date: 27-Oct-24
@@ -32,6 +55,18 @@ public class TodoController {
     @Autowired
     private TodoService todoService;
 
+    @Autowired
+    private TodoImportService todoImportService;
+
+    @Autowired
+    private TodoSearchService todoSearchService;
+
+    @Autowired
+    private TodoChangeFeed todoChangeFeed;
+
+    @Autowired
+    private TodoStats todoStats;
+
 
     //Create a new to-do task
     @ApiResponses(value = {
@@ -45,28 +80,151 @@ public class TodoController {
         return new ResponseEntity<>(createTodo, HttpStatus.CREATED);
     }
 
-    //Get all to-do tasks
+    //Create many to-do tasks in one request
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "All todo fetched successfully"),
+            @ApiResponse(responseCode = "201", description = "Todos created successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid Input")
+    })
+    @Operation(summary = "Create many to-do tasks in one request")
+    @PostMapping("/bulk")
+    public ResponseEntity<List<TodoDto>> createTodos(@Valid @RequestBody TodoBulkCreateDto bulkCreate){
+        List<TodoDto> createdTodos = todoService.createTodos(bulkCreate.getTodos());
+        return new ResponseEntity<>(createdTodos, HttpStatus.CREATED);
+    }
+
+    //Import to-do tasks from a NDJSON body
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import finished, see report for rejected rows")
+    })
+    @Operation(summary = "Import to-do tasks from NDJSON, one todo object per line")
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<TodoImportReportDto> importTodosFromNdjson(InputStream body) throws IOException {
+        TodoImportReportDto report = todoImportService.importTodos(body, TodoImportFormat.NDJSON);
+        return new ResponseEntity<>(report, HttpStatus.OK);
+    }
+
+    //Import to-do tasks from a CSV body
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Import finished, see report for rejected rows")
+    })
+    @Operation(summary = "Import to-do tasks from CSV with a header row")
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<TodoImportReportDto> importTodosFromCsv(InputStream body) throws IOException {
+        TodoImportReportDto report = todoImportService.importTodos(body, TodoImportFormat.CSV);
+        return new ResponseEntity<>(report, HttpStatus.OK);
+    }
+
+    //Get all to-do tasks, one keyset page at a time
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Todo page fetched successfully"),
+            @ApiResponse(responseCode = "304", description = "Page unchanged since If-None-Match ETag"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size"),
             @ApiResponse(responseCode = "404", description = "Not Found")
     })
-    @Operation(summary = "Get all to-do tasks")
+    @Operation(summary = "Get all to-do tasks, paginated by cursor")
     @GetMapping("/getall")
-    public ResponseEntity<List<TodoDto>> getAllTodos(){
-        List<TodoDto> todosList = todoService.getAllTodo();
-        return new ResponseEntity<>(todosList,HttpStatus.OK);
+    public ResponseEntity<TodoPageDto> getAllTodos(@RequestParam(value = "cursor", required = false) String cursor,
+                                                   @RequestParam(value = "size", required = false) Integer size,
+                                                   @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch){
+        TodoPageDto todosPage = todoService.getAllTodo(cursor, size);
+        String etag = TodoEtags.ofPage(todosPage);
+        if (TodoEtags.matches(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+        return ResponseEntity.ok().eTag(etag).body(todosPage);
+    }
+
+    //Get to-do tasks overdue, due today or due within some days, one keyset page at a time
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Agenda page fetched successfully, possibly empty"),
+            @ApiResponse(responseCode = "400", description = "Invalid range, days, cursor or page size")
+    })
+    @Operation(summary = "Get the agenda: overdue, today or upcoming to-do tasks ordered by due date, paginated by cursor")
+    @GetMapping("/agenda")
+    public ResponseEntity<TodoPageDto> getAgenda(@RequestParam(value = "range", defaultValue = "today") TodoAgendaRange range,
+                                                 @RequestParam(value = "days", required = false) Integer days,
+                                                 @RequestParam(value = "cursor", required = false) String cursor,
+                                                 @RequestParam(value = "size", required = false) Integer size){
+        return new ResponseEntity<>(todoService.getAgenda(range, days, cursor, size), HttpStatus.OK);
+    }
+
+    //Get counts of to-do tasks by status and priority
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Counts fetched successfully")
+    })
+    @Operation(summary = "Get counts of to-do tasks by status and by priority, from in memory counters")
+    @GetMapping("/stats")
+    public ResponseEntity<TodoStatsDto> getStats(){
+        return new ResponseEntity<>(todoStats.getStats(), HttpStatus.OK);
+    }
+
+    //Push create/update/delete events of to-do tasks as server-sent events
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Event stream opened, a reset event asks the client to refetch")
+    })
+    @Operation(summary = "Subscribe to to-do changes as server-sent events, resumable with Last-Event-ID")
+    @GetMapping(value = "/feed", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter getChangeFeed(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId){
+        return todoChangeFeed.subscribe(lastEventId);
+    }
+
+    //Search to-do tasks by words of title and description
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Ranked search results, possibly empty"),
+            @ApiResponse(responseCode = "400", description = "Query without words, invalid page or page size")
+    })
+    @Operation(summary = "Full text search over title and description, with prefix matching and pagination")
+    @GetMapping("/search")
+    public ResponseEntity<TodoSearchResultDto> searchTodos(@RequestParam("q") String query,
+                                                           @RequestParam(value = "page", required = false) Integer page,
+                                                           @RequestParam(value = "size", required = false) Integer size){
+        return new ResponseEntity<>(todoSearchService.searchTodos(query, page, size), HttpStatus.OK);
+    }
+
+    //Export all to-do tasks as newline delimited JSON
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Todos streamed successfully")
+    })
+    @Operation(summary = "Export all to-do tasks as NDJSON, optionally gzip compressed")
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTodos(@RequestParam(value = "gzip", defaultValue = "false") boolean gzip){
+        StreamingResponseBody responseBody = outputStream -> {
+            OutputStream exportStream = gzip ? new GZIPOutputStream(outputStream, 8192) : outputStream;
+            long exported = todoService.exportTodos(exportStream);
+            if (exportStream instanceof GZIPOutputStream gzipStream) {
+                gzipStream.finish();
+            }
+            logger.info("Todos exported : {}", exported);
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"todos.ndjson\"");
+        if (gzip) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(responseBody);
     }
 
     //Get a particular to-da task by id
     @ApiResponses(value = {
             @ApiResponse(responseCode = "302" , description = "Found Successfully"),
+            @ApiResponse(responseCode = "304", description = "Todo unchanged since If-None-Match ETag"),
             @ApiResponse(responseCode = "404", description = "Not Found")
     })
     @Operation(summary = "Get a particular to-da task by id")
     @GetMapping("/{id}")
-    public ResponseEntity<TodoDto> getTodoByID(@PathVariable("id") Long todoId){
+    public ResponseEntity<TodoDto> getTodoByID(@PathVariable("id") Long todoId,
+                                               @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch){
+        // Conditional request: only the version is read, the row is neither loaded nor serialized when unchanged
+        if (ifNoneMatch != null) {
+            String currentEtag = TodoEtags.ofVersion(todoService.getTodoVersion(todoId));
+            if (TodoEtags.matches(ifNoneMatch, currentEtag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(currentEtag).build();
+            }
+        }
         TodoDto todoById  = todoService.getToDoById(todoId);
-        return new ResponseEntity<>(todoById, HttpStatus.FOUND);
+        return ResponseEntity.status(HttpStatus.FOUND).eTag(TodoEtags.ofVersion(todoById.getVersion())).body(todoById);
     }
 
     //Delete a particular to-do task
@@ -81,16 +239,53 @@ public class TodoController {
         return new ResponseEntity<>("Deleted Successfully",HttpStatus.OK);
     }
 
+    //Delete many to-do tasks by ids or by status/priority
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Todos deleted, body holds the count"),
+            @ApiResponse(responseCode = "400", description = "Neither ids nor a filter, or both")
+    })
+    @Operation(summary = "Delete many to-do tasks by id list or by status and/or priority")
+    @PostMapping("/bulk-delete")
+    public ResponseEntity<TodoBulkDeleteResultDto> deleteTodos(@RequestBody TodoBulkDeleteDto bulkDelete){
+        int deleted = todoService.deleteTodos(bulkDelete);
+        return new ResponseEntity<>(new TodoBulkDeleteResultDto(deleted), HttpStatus.OK);
+    }
+
     //Update a particular to-do task
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200" , description = "Updated Successfully"),
-            @ApiResponse(responseCode = "404", description = "Not Found")
+            @ApiResponse(responseCode = "404", description = "Not Found"),
+            @ApiResponse(responseCode = "412", description = "Todo modified since If-Match ETag")
     })
     @Operation(summary = "Update a particular to-do task")
     @PutMapping("/{id}")
-    public ResponseEntity<TodoDto> updateTodoById(@PathVariable("id") Long todoId, @RequestBody TodoDto todo){
+    public ResponseEntity<TodoDto> updateTodoById(@PathVariable("id") Long todoId,
+                                                  @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                  @RequestBody TodoDto todo){
+         if (ifMatch != null) {
+             todo.setVersion(TodoEtags.expectedVersion(ifMatch));
+         }
          TodoDto updatedTodo= todoService.updateTodoById(todoId,todo);
-         return new ResponseEntity<>(updatedTodo,HttpStatus.OK);
+         return ResponseEntity.ok().eTag(TodoEtags.ofVersion(updatedTodo.getVersion())).body(updatedTodo);
+    }
+
+    //Partially update a particular to-do task
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "204" , description = "Patched Successfully, ETag holds the new version"),
+            @ApiResponse(responseCode = "400", description = "Version missing"),
+            @ApiResponse(responseCode = "404", description = "Not Found"),
+            @ApiResponse(responseCode = "409", description = "Todo modified by someone else")
+    })
+    @Operation(summary = "Partially update a to-do task, only the fields sent are changed")
+    @PatchMapping("/{id}")
+    public ResponseEntity<Void> patchTodoById(@PathVariable("id") Long todoId,
+                                              @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                              @RequestBody TodoDto changes){
+        if (ifMatch != null) {
+            changes.setVersion(TodoEtags.expectedVersion(ifMatch));
+        }
+        long newVersion = todoService.patchTodoById(todoId, changes);
+        return ResponseEntity.noContent().eTag(TodoEtags.ofVersion(newVersion)).build();
     }
 
     //Find To do task by query param
@@ -101,9 +296,12 @@ public class TodoController {
     })
     @Operation(summary = "Find To do task by query param")
     @GetMapping("/find")
-    public ResponseEntity<List <TodoDto>> findToDoByPriority(@RequestParam("priority") String toDoPriority){
-        logger.info("To do list found to be by Priority : {} ",toDoPriority);
-        List<TodoDto> priorityTodoList = todoService.getTodoByPriority(toDoPriority);
+    public ResponseEntity<List <TodoDto>> findToDoByPriority(@RequestParam("priority") TodoPriority toDoPriority,
+                                                             @RequestParam(value = "status", required = false) TodoStatus status){
+        logger.info("To do list found to be by Priority : {} and Status : {}",toDoPriority, status);
+        List<TodoDto> priorityTodoList = status == null
+                ? todoService.getTodoByPriority(toDoPriority)
+                : todoService.getTodoByPriorityAndStatus(toDoPriority, status);
         return new ResponseEntity<>(priorityTodoList, HttpStatus.FOUND);
     }
 }
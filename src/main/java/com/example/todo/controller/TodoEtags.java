@@ -0,0 +1,77 @@
+package com.example.todo.controller;
+
+import com.example.todo.exceptions.InvalidTodoRequestException;
+import com.example.todo.exceptions.TodoPreconditionFailedException;
+import com.example.todo.model.TodoDto;
+import com.example.todo.model.TodoPageDto;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * Builds and compares the ETags of to-do responses.
+ * A single to-do is tagged with its version, a page with a hash of its ids, versions and next cursor.
+ * A to-do tag is strong, it is what If-Match compares and a single to-do is below the compression threshold.
+ * A page tag is weak because Tomcat does not gzip a response carrying a strong ETag, pages are only revalidated.
+ */
+
+final class TodoEtags {
+
+    private TodoEtags() {
+    }
+
+    static String ofVersion(Long version) {
+        return version == null ? null : "\"" + version + "\"";
+    }
+
+    static String ofPage(TodoPageDto todoPage) {
+        long hash = 1125899906842597L;
+        for (TodoDto todo : todoPage.getTodos()) {
+            hash = 31 * hash + todo.getId();
+            hash = 31 * hash + (todo.getVersion() == null ? 0 : todo.getVersion());
+        }
+        hash = 31 * hash + (todoPage.getNextCursor() == null ? 0 : todoPage.getNextCursor().hashCode());
+        return "W/\"p" + Long.toHexString(hash) + "\"";
+    }
+
+    /**
+     * matches - If-None-Match weak comparison, a tag matches whether or not either side is marked weak.
+     */
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || stripWeak(tag).equals(stripWeak(etag))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * expectedVersion - Version required by an If-Match header, null when any version is accepted.
+     * If-Match uses strong comparison, so a weak tag never matches and fails the precondition.
+     */
+    static Long expectedVersion(String ifMatch) {
+        String tag = ifMatch.trim();
+        if (tag.equals("*")) {
+            return null;
+        }
+        if (tag.startsWith("W/")) {
+            throw new TodoPreconditionFailedException("Weak ETag does not match in If-Match: " + ifMatch);
+        }
+        if (tag.length() < 3 || !tag.startsWith("\"") || !tag.endsWith("\"")) {
+            throw new InvalidTodoRequestException("Invalid If-Match header: " + ifMatch);
+        }
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException ex) {
+            throw new InvalidTodoRequestException("Invalid If-Match header: " + ifMatch);
+        }
+    }
+
+    private static String stripWeak(String tag) {
+        return tag.startsWith("W/") ? tag.substring(2) : tag;
+    }
+}
@@ -1,11 +1,20 @@
 package com.example.todo.entity;
 
+import com.example.todo.model.TodoPriority;
+import com.example.todo.model.TodoStatus;
+import jakarta.persistence.Cacheable;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.NotBlank;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -23,22 +32,41 @@ import java.time.LocalDateTime;
 @ToString
 @Builder
 @Entity
+// Second-level cached, Hibernate updates the entry when it writes the row and evicts the region on bulk updates and deletes
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = TodoEntity.CACHE_REGION)
+@Table(indexes = {
+        // Also serves priority-only lookups, priority is its leading column
+        @Index(name = "idx_todo_priority_status", columnList = "priority, status"),
+        @Index(name = "idx_todo_status", columnList = "status"),
+        @Index(name = "idx_todo_due_date", columnList = "dueDate")
+})
 public class TodoEntity {
+
+    public static final String CACHE_REGION = "todo";
+
     @Id
-    @GeneratedValue(strategy = GenerationType.AUTO)
+    // Pooled sequence so Hibernate can hand out ids without a round-trip per insert and batch the inserts
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todo_seq")
+    @SequenceGenerator(name = "todo_seq", sequenceName = "todo_seq", allocationSize = 50)
     private long id;
 
     private String title;
 
     private String description;
 
-    private String status;
+    // Stored as smallint codes by TodoStatusConverter and TodoPriorityConverter, filters compare integers
+    private TodoStatus status;
 
-    private String priority;
+    private TodoPriority priority;
 
     private LocalDate dueDate;
 
     private LocalDateTime createdAt;
 
     private LocalDateTime updatedAt;
+
+    // Incremented on every update, used for optimistic locking and as the ETag of the to-do
+    @Version
+    private long version;
 }
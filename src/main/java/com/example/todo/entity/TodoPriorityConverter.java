@@ -0,0 +1,26 @@
+package com.example.todo.entity;
+
+import com.example.todo.model.TodoPriority;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ *  Stores a to-do priority as its smallint code
+ */
+
+
+@Converter(autoApply = true)
+public class TodoPriorityConverter implements AttributeConverter<TodoPriority, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(TodoPriority priority) {
+        return priority == null ? null : priority.getCode();
+    }
+
+    @Override
+    public TodoPriority convertToEntityAttribute(Short code) {
+        return code == null ? null : TodoPriority.fromCode(code);
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.todo.entity;
+
+import com.example.todo.model.TodoStatus;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ *  Stores a to-do status as its smallint code
+ */
+
+
+@Converter(autoApply = true)
+public class TodoStatusConverter implements AttributeConverter<TodoStatus, Short> {
+
+    @Override
+    public Short convertToDatabaseColumn(TodoStatus status) {
+        return status == null ? null : status.getCode();
+    }
+
+    @Override
+    public TodoStatus convertToEntityAttribute(Short code) {
+        return code == null ? null : TodoStatus.fromCode(code);
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.todo.event;
+
+import com.example.todo.model.TodoBulkDeleteDto;
+import com.example.todo.model.TodoDto;
+import com.example.todo.model.TodoPriority;
+import com.example.todo.model.TodoStatus;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * Published by TodoService for every committed change of a to-do, listeners keep
+ * derived views (search index, ...) in step with the database
+ */
+
+
+@Getter
+@ToString
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class TodoChangeEvent {
+
+    public enum Type {
+        CREATED,
+        UPDATED,
+        // Only the non null fields of todo changed
+        PATCHED,
+        DELETED,
+        // Every to-do matching the status and/or priority of bulkDelete was deleted
+        BULK_DELETED
+    }
+
+    private final Type type;
+
+    private final long todoId;
+
+    // Full to-do for CREATED and UPDATED, the applied changes for PATCHED, null otherwise
+    private final TodoDto todo;
+
+    // Version of the to-do after the change, 0 for deletes
+    private final long version;
+
+    private final TodoBulkDeleteDto bulkDelete;
+
+    // Rows removed by a BULK_DELETED
+    private final int deletedCount;
+
+    // Status and priority before an UPDATED or DELETED, and before a PATCHED changing either, null otherwise
+    private final TodoStatus previousStatus;
+
+    private final TodoPriority previousPriority;
+
+    public static TodoChangeEvent created(TodoDto todo) {
+        return new TodoChangeEvent(Type.CREATED, todo.getId(), todo, todo.getVersion(), null, 0, null, null);
+    }
+
+    public static TodoChangeEvent updated(TodoDto todo, TodoStatus previousStatus, TodoPriority previousPriority) {
+        return new TodoChangeEvent(Type.UPDATED, todo.getId(), todo, todo.getVersion(), null, 0, previousStatus, previousPriority);
+    }
+
+    public static TodoChangeEvent patched(long todoId, TodoDto changes, long version,
+                                          TodoStatus previousStatus, TodoPriority previousPriority) {
+        return new TodoChangeEvent(Type.PATCHED, todoId, changes, version, null, 0, previousStatus, previousPriority);
+    }
+
+    public static TodoChangeEvent deleted(long todoId, TodoStatus previousStatus, TodoPriority previousPriority) {
+        return new TodoChangeEvent(Type.DELETED, todoId, null, 0, null, 0, previousStatus, previousPriority);
+    }
+
+    public static TodoChangeEvent bulkDeleted(TodoBulkDeleteDto bulkDelete, int deletedCount) {
+        return new TodoChangeEvent(Type.BULK_DELETED, 0, null, 0, bulkDelete, deletedCount, null, null);
+    }
+}
@@ -3,11 +3,16 @@ package com.example.todo.exceptions;
 import com.example.todo.model.RestCustomErrorResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 /*
  * Author: Sachin Hol
  * Date: 27-Oct-24
@@ -30,6 +35,96 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.NOT_FOUND);
     }
 
+    // Handle TodoPreconditionFailedException
+    @ExceptionHandler(TodoPreconditionFailedException.class)
+    public ResponseEntity<RestCustomErrorResponse> handleTodoPreconditionFailedException(TodoPreconditionFailedException ex) {
+        logger.error("TodoPreconditionFailedException: {}", ex.getMessage());
+        RestCustomErrorResponse errorResponse = new RestCustomErrorResponse(
+                HttpStatus.PRECONDITION_FAILED.value(),
+                ex.getMessage()
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.PRECONDITION_FAILED);
+    }
+
+    // Handle TodoVersionConflictException
+    @ExceptionHandler(TodoVersionConflictException.class)
+    public ResponseEntity<RestCustomErrorResponse> handleTodoVersionConflictException(TodoVersionConflictException ex) {
+        logger.error("TodoVersionConflictException: {}", ex.getMessage());
+        RestCustomErrorResponse errorResponse = new RestCustomErrorResponse(
+                HttpStatus.CONFLICT.value(),
+                ex.getMessage()
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
+    // Handle OptimisticLockingFailureException, a concurrent update committed first, same conflict as the explicit version check
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<RestCustomErrorResponse> handleOptimisticLockingFailureException(OptimisticLockingFailureException ex) {
+        logger.error("OptimisticLockingFailureException: {}", ex.getMessage());
+        String message = ex instanceof ObjectOptimisticLockingFailureException objectFailure && objectFailure.getIdentifier() != null
+                ? "Todo task with ID: " + objectFailure.getIdentifier() + " was modified concurrently, read it again and retry"
+                : "Todo task was modified concurrently, read it again and retry";
+        RestCustomErrorResponse errorResponse = new RestCustomErrorResponse(
+                HttpStatus.CONFLICT.value(),
+                message
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.CONFLICT);
+    }
+
+    // Handle TodoTooManyRequestsException, Retry-After tells the client when to try again
+    @ExceptionHandler(TodoTooManyRequestsException.class)
+    public ResponseEntity<RestCustomErrorResponse> handleTodoTooManyRequestsException(TodoTooManyRequestsException ex) {
+        logger.warn("TodoTooManyRequestsException: {}", ex.getMessage());
+        RestCustomErrorResponse errorResponse = new RestCustomErrorResponse(
+                HttpStatus.TOO_MANY_REQUESTS.value(),
+                ex.getMessage()
+        );
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(errorResponse);
+    }
+
+    // Handle InvalidTodoRequestException
+    @ExceptionHandler(InvalidTodoRequestException.class)
+    public ResponseEntity<RestCustomErrorResponse> handleInvalidTodoRequestException(InvalidTodoRequestException ex) {
+        logger.error("InvalidTodoRequestException: {}", ex.getMessage());
+        RestCustomErrorResponse errorResponse = new RestCustomErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                ex.getMessage()
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    // Handle request params that cannot be converted, e.g. an unknown priority
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<RestCustomErrorResponse> handleMethodArgumentTypeMismatchException(MethodArgumentTypeMismatchException ex) {
+        logger.error("MethodArgumentTypeMismatchException: {}", ex.getMessage());
+        Throwable cause = ex.getMostSpecificCause();
+        String message = cause instanceof InvalidTodoRequestException
+                ? cause.getMessage()
+                : "Invalid value for parameter: " + ex.getName();
+        RestCustomErrorResponse errorResponse = new RestCustomErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                message
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
+    // Handle request bodies that cannot be read, e.g. malformed JSON or an unknown status
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<RestCustomErrorResponse> handleHttpMessageNotReadableException(HttpMessageNotReadableException ex) {
+        logger.error("HttpMessageNotReadableException: {}", ex.getMessage());
+        Throwable cause = ex.getMostSpecificCause();
+        String message = cause instanceof InvalidTodoRequestException
+                ? cause.getMessage()
+                : "Malformed request body";
+        RestCustomErrorResponse errorResponse = new RestCustomErrorResponse(
+                HttpStatus.BAD_REQUEST.value(),
+                message
+        );
+        return new ResponseEntity<>(errorResponse, HttpStatus.BAD_REQUEST);
+    }
+
     // Handle other general exceptions
     @ExceptionHandler(Exception.class)
     public ResponseEntity<RestCustomErrorResponse> handleGeneralException(Exception ex) {
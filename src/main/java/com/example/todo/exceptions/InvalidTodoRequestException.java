@@ -0,0 +1,13 @@
+package com.example.todo.exceptions;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ *  This class is for custom invalid to-do request exception (bad cursor, page size etc.)
+ */
+
+public class InvalidTodoRequestException extends RuntimeException{
+    public InvalidTodoRequestException(String message) {
+        super(message);
+    }
+}
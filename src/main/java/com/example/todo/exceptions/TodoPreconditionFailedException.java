@@ -0,0 +1,13 @@
+package com.example.todo.exceptions;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ *  This class is for custom exception when the to-do version does not match the expected one (If-Match)
+ */
+
+public class TodoPreconditionFailedException extends RuntimeException{
+    public TodoPreconditionFailedException(String message) {
+        super(message);
+    }
+}
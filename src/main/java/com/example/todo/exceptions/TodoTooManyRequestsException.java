@@ -0,0 +1,21 @@
+package com.example.todo.exceptions;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ *  This class is for custom exception when a write is shed by the rate limit or the write bulkhead
+ */
+
+public class TodoTooManyRequestsException extends RuntimeException{
+
+    private final long retryAfterSeconds;
+
+    public TodoTooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
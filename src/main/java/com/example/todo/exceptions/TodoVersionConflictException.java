@@ -0,0 +1,13 @@
+package com.example.todo.exceptions;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ *  This class is for custom exception when a partial update races with another write of the same to-do
+ */
+
+public class TodoVersionConflictException extends RuntimeException{
+    public TodoVersionConflictException(String message) {
+        super(message);
+    }
+}
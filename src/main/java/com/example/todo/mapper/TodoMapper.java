@@ -0,0 +1,72 @@
+package com.example.todo.mapper;
+
+import com.example.todo.entity.TodoEntity;
+import com.example.todo.model.TodoDto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * Maps between TodoEntity and TodoDto with plain getter/setter calls,
+ * replacing the reflective BeanUtils.copyProperties in the service.
+ */
+
+public final class TodoMapper {
+
+    private TodoMapper() {
+    }
+
+    /**
+     * toDto - Copies every field of the entity into a new DTO.
+     *
+     * @param todoEntity - to-do entity
+     * @return - to-do DTO
+     */
+    public static TodoDto toDto(TodoEntity todoEntity) {
+        TodoDto todoDto = new TodoDto();
+        todoDto.setId(todoEntity.getId());
+        todoDto.setTitle(todoEntity.getTitle());
+        todoDto.setDescription(todoEntity.getDescription());
+        todoDto.setStatus(todoEntity.getStatus());
+        todoDto.setPriority(todoEntity.getPriority());
+        todoDto.setDueDate(todoEntity.getDueDate());
+        todoDto.setCreatedAt(todoEntity.getCreatedAt());
+        todoDto.setUpdatedAt(todoEntity.getUpdatedAt());
+        todoDto.setVersion(todoEntity.getVersion());
+        return todoDto;
+    }
+
+    /**
+     * toDtoList - Maps a list of entities into a pre-sized list of DTOs.
+     *
+     * @param todoEntities - to-do entities
+     * @return - to-do DTOs in the same order
+     */
+    public static List<TodoDto> toDtoList(List<TodoEntity> todoEntities) {
+        List<TodoDto> todoDtos = new ArrayList<>(todoEntities.size());
+        for (TodoEntity todoEntity : todoEntities) {
+            todoDtos.add(toDto(todoEntity));
+        }
+        return todoDtos;
+    }
+
+    /**
+     * toNewEntity - Builds a not yet persisted entity from the DTO, ignoring its id.
+     *
+     * @param todoDto - to-do DTO
+     * @return - new to-do entity
+     */
+    public static TodoEntity toNewEntity(TodoDto todoDto) {
+        return TodoEntity.builder()
+                .title(todoDto.getTitle())
+                .description(todoDto.getDescription())
+                .status(todoDto.getStatus())
+                .priority(todoDto.getPriority())
+                .dueDate(todoDto.getDueDate())
+                .createdAt(todoDto.getCreatedAt())
+                .updatedAt(todoDto.getUpdatedAt())
+                .build();
+    }
+}
@@ -0,0 +1,27 @@
+package com.example.todo.model;/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * Due date range of the agenda endpoint
+ */
+
+import com.example.todo.exceptions.InvalidTodoRequestException;
+
+import java.util.Locale;
+
+public enum TodoAgendaRange {
+
+    // Due before today and not done
+    OVERDUE,
+    // Due today
+    TODAY,
+    // Due from today up to today plus the requested number of days
+    UPCOMING;
+
+    public static TodoAgendaRange fromValue(String value) {
+        try {
+            return valueOf(value.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidTodoRequestException("Invalid agenda range: " + value + ", expected one of overdue, today, upcoming");
+        }
+    }
+}
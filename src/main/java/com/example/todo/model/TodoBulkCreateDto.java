@@ -0,0 +1,29 @@
+package com.example.todo.model;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * This is Model class for a bulk create request, every to-do is validated like a single create
+ */
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoBulkCreateDto {
+
+    public static final int MAX_TODOS = 10000;
+
+    @NotEmpty(message = "Please add at least one Todo")
+    @Size(max = MAX_TODOS, message = "At most 10000 Todos can be created in one request")
+    private List<@Valid TodoDto> todos;
+}
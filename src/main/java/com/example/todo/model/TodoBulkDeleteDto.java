@@ -0,0 +1,24 @@
+package com.example.todo.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * This is Model class for a bulk delete request, either a list of ids
+ * or a status and/or priority filter
+ */
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoBulkDeleteDto {
+    private List<Long> ids;
+    private TodoStatus status;
+    private TodoPriority priority;
+}
@@ -0,0 +1,19 @@
+package com.example.todo.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * This is Model class for the result of a bulk delete
+ */
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoBulkDeleteResultDto {
+    private int deleted;
+}
@@ -5,6 +5,7 @@ package com.example.todo.model;/*
  */
 
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -26,14 +27,17 @@ public class TodoDto {
 
     private String description;
 
-    private String status;
+    private TodoStatus status;
 
-    @NotBlank(message = "Please Set Priority")
-    private String priority;
+    @NotNull(message = "Please Set Priority")
+    private TodoPriority priority;
 
     private LocalDate dueDate;
 
     private LocalDateTime createdAt;
 
     private LocalDateTime updatedAt;
+
+    // When sent with an update it must match the current version, null skips the check
+    private Long version;
 }
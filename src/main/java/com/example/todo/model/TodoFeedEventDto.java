@@ -0,0 +1,26 @@
+package com.example.todo.model;
+
+import com.example.todo.event.TodoChangeEvent;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * This is Model class for one change pushed on the server-sent events feed.
+ * id is also the SSE event id a client resumes from.
+ */
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoFeedEventDto {
+    private long id;
+    private TodoChangeEvent.Type type;
+    private long todoId;
+    private TodoDto todo;
+    private long version;
+    private TodoBulkDeleteDto bulkDelete;
+}
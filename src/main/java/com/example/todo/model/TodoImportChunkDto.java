@@ -0,0 +1,21 @@
+package com.example.todo.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * This is Model class for the progress of one committed import chunk
+ */
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoImportChunkDto {
+    private int chunk;
+    private int imported;
+    private long totalImported;
+}
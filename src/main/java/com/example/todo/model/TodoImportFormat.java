@@ -0,0 +1,14 @@
+package com.example.todo.model;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * Formats accepted by the to-do import
+ */
+
+public enum TodoImportFormat {
+    // One TodoDto JSON object per line
+    NDJSON,
+    // Header row with TodoDto property names, one to-do per record
+    CSV
+}
@@ -0,0 +1,20 @@
+package com.example.todo.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * This is Model class for an import row which could not be parsed or failed validation
+ */
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoImportRejectedRowDto {
+    private long line;
+    private String message;
+}
@@ -0,0 +1,29 @@
+package com.example.todo.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * This is Model class for the result of an import. rejectedRows lists at most
+ * MAX_REPORTED_REJECTIONS rows, rejected always holds the full count.
+ */
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoImportReportDto {
+
+    public static final int MAX_REPORTED_REJECTIONS = 1000;
+
+    private long imported;
+    private long rejected;
+    private List<TodoImportChunkDto> chunks = new ArrayList<>();
+    private List<TodoImportRejectedRowDto> rejectedRows = new ArrayList<>();
+}
@@ -0,0 +1,24 @@
+package com.example.todo.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * This is Model class for one keyset page of to-do tasks.
+ * nextCursor is null when there are no more pages.
+ */
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoPageDto {
+    private List<TodoDto> todos;
+    private int size;
+    private String nextCursor;
+}
@@ -0,0 +1,71 @@
+package com.example.todo.model;/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * Priority of a to-do, stored as its small integer code
+ */
+
+import com.example.todo.exceptions.InvalidTodoRequestException;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.Locale;
+
+public enum TodoPriority {
+
+    // Codes are persisted, never renumber or reuse them
+    HIGH((short) 1, "High"),
+    MEDIUM((short) 2, "Medium"),
+    LOW((short) 3, "Low");
+
+    private final short code;
+
+    private final String label;
+
+    TodoPriority(short code, String label) {
+        this.code = code;
+        this.label = label;
+    }
+
+    public short getCode() {
+        return code;
+    }
+
+    @JsonValue
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * fromValue - parse a priority ignoring case, "high", "HIGH" and "High" are all HIGH.
+     *
+     * @param value - priority name or label
+     * @return - priority, null for a null or blank value
+     */
+    @JsonCreator
+    public static TodoPriority fromValue(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String name = value.trim().replace(' ', '_').replace('-', '_').toUpperCase(Locale.ROOT);
+        for (TodoPriority priority : values()) {
+            if (priority.name().equals(name)) {
+                return priority;
+            }
+        }
+        throw new InvalidTodoRequestException("Invalid priority: " + value + ", expected one of High, Medium, Low");
+    }
+
+    public static TodoPriority fromCode(short code) {
+        for (TodoPriority priority : values()) {
+            if (priority.code == code) {
+                return priority;
+            }
+        }
+        throw new IllegalArgumentException("Unknown priority code: " + code);
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
@@ -0,0 +1,25 @@
+package com.example.todo.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * This is Model class for one page of ranked search results.
+ * total is the number of matching to-do over all pages.
+ */
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoSearchResultDto {
+    private List<TodoDto> todos;
+    private int page;
+    private int size;
+    private long total;
+}
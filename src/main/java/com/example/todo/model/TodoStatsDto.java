@@ -0,0 +1,26 @@
+package com.example.todo.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * This is Model class for the to-do counts by status and by priority.
+ * To-do without a status or priority are only part of total.
+ */
+
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TodoStatsDto {
+    private long total;
+    private Map<TodoStatus, Long> byStatus;
+    private Map<TodoPriority, Long> byPriority;
+    private LocalDateTime reconciledAt;
+}
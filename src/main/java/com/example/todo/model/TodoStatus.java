@@ -0,0 +1,71 @@
+package com.example.todo.model;/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * Status of a to-do, stored as its small integer code
+ */
+
+import com.example.todo.exceptions.InvalidTodoRequestException;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.Locale;
+
+public enum TodoStatus {
+
+    // Codes are persisted, never renumber or reuse them
+    PENDING((short) 1, "Pending"),
+    IN_PROGRESS((short) 2, "In Progress"),
+    DONE((short) 3, "Done");
+
+    private final short code;
+
+    private final String label;
+
+    TodoStatus(short code, String label) {
+        this.code = code;
+        this.label = label;
+    }
+
+    public short getCode() {
+        return code;
+    }
+
+    @JsonValue
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * fromValue - parse a status ignoring case, "in progress", "IN_PROGRESS" and "In Progress" are all IN_PROGRESS.
+     *
+     * @param value - status name or label
+     * @return - status, null for a null or blank value
+     */
+    @JsonCreator
+    public static TodoStatus fromValue(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String name = value.trim().replace(' ', '_').replace('-', '_').toUpperCase(Locale.ROOT);
+        for (TodoStatus status : values()) {
+            if (status.name().equals(name)) {
+                return status;
+            }
+        }
+        throw new InvalidTodoRequestException("Invalid status: " + value + ", expected one of Pending, In Progress, Done");
+    }
+
+    public static TodoStatus fromCode(short code) {
+        for (TodoStatus status : values()) {
+            if (status.code == code) {
+                return status;
+            }
+        }
+        throw new IllegalArgumentException("Unknown status code: " + code);
+    }
+
+    @Override
+    public String toString() {
+        return label;
+    }
+}
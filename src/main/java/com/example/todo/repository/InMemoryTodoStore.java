@@ -0,0 +1,511 @@
+package com.example.todo.repository;
+
+import com.example.todo.model.TodoDto;
+import com.example.todo.model.TodoPriority;
+import com.example.todo.model.TodoStatus;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.PriorityQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * In memory storage of to-do for the memory profile, used by InMemoryTodoService in place of TodoRepository.
+ * Records are spread over STRIPES stripes by id, each a LongObjectMap of records plus one per priority,
+ * guarded by its own read/write lock. Each stripe also keeps its ids and its (due date, id) keys sorted in
+ * primitive SortedKeyIndex arrays, keyset pages merge the stripes and read each in chunks under its read lock.
+ * Reads spanning stripes lock one stripe at a time and may see a write to one stripe and not to another.
+ */
+
+
+@Repository
+@Profile("memory")
+public class InMemoryTodoStore {
+
+    // Power of two, a write locks one stripe
+    static final int STRIPES = 64;
+
+    // Size of tables indexed by status or priority code, code NO_CODE included
+    private static final int STATUS_CODES = Arrays.stream(TodoStatus.values()).mapToInt(TodoStatus::getCode).max().getAsInt() + 1;
+
+    private static final int PRIORITY_CODES = Arrays.stream(TodoPriority.values()).mapToInt(TodoPriority::getCode).max().getAsInt() + 1;
+
+    private static final Comparator<TodoRecord> BY_ID = Comparator.comparingLong(record -> record.id);
+
+    private static final Comparator<TodoRecord> BY_DUE_DATE_AND_ID =
+            Comparator.<TodoRecord>comparingInt(record -> record.dueDate).thenComparingLong(record -> record.id);
+
+    private final Stripe[] stripes = new Stripe[STRIPES];
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    public InMemoryTodoStore() {
+        for (int i = 0; i < STRIPES; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * insert - Stores a new to-do under the next id, at version 0.
+     *
+     * @param todo - to-do to store, its id and version are ignored
+     * @return - stored to-do
+     */
+    public TodoDto insert(TodoDto todo) {
+        TodoRecord record = TodoRecord.of(sequence.incrementAndGet(), 0, todo);
+        Stripe stripe = stripe(record.id);
+        Lock lock = stripe.lock.writeLock();
+        lock.lock();
+        try {
+            stripe.put(record);
+        } finally {
+            lock.unlock();
+        }
+        return record.toDto();
+    }
+
+    public TodoDto findById(long id) {
+        TodoRecord record = get(id);
+        return record == null ? null : record.toDto();
+    }
+
+    public OptionalLong findVersionById(long id) {
+        TodoRecord record = get(id);
+        return record == null ? OptionalLong.empty() : OptionalLong.of(record.version);
+    }
+
+    public boolean existsById(long id) {
+        return get(id) != null;
+    }
+
+    /**
+     * replace - Replaces a to-do if it is still at the expected version, the stored one is one version ahead.
+     *
+     * @param id - to-do id
+     * @param expectedVersion - version the to-do must be at
+     * @param todo - new field values, its id and version are ignored
+     * @return - stored to-do, null when the to-do is missing or at another version
+     */
+    public TodoDto replace(long id, long expectedVersion, TodoDto todo) {
+        Stripe stripe = stripe(id);
+        Lock lock = stripe.lock.writeLock();
+        lock.lock();
+        try {
+            TodoRecord current = stripe.records.get(id);
+            if (current == null || current.version != expectedVersion) {
+                return null;
+            }
+            TodoRecord record = TodoRecord.of(id, expectedVersion + 1, todo);
+            stripe.put(record);
+            return record.toDto();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * deleteById - Deletes a to-do.
+     *
+     * @param id - to-do id
+     * @return - deleted to-do, null when it is missing
+     */
+    public TodoDto deleteById(long id) {
+        Stripe stripe = stripe(id);
+        Lock lock = stripe.lock.writeLock();
+        lock.lock();
+        try {
+            TodoRecord removed = stripe.remove(id);
+            return removed == null ? null : removed.toDto();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * deleteWhere - Deletes every to-do with the status and priority, a null one matches any value.
+     *
+     * @param status - status to match, null for any
+     * @param priority - priority to match, null for any
+     * @return - number of deleted to-do
+     */
+    public int deleteWhere(TodoStatus status, TodoPriority priority) {
+        int deleted = 0;
+        for (Stripe stripe : stripes) {
+            Lock lock = stripe.lock.writeLock();
+            lock.lock();
+            try {
+                List<TodoRecord> matches = new ArrayList<>();
+                LongObjectMap<TodoRecord> candidates = priority == null ? stripe.records : stripe.byPriority[priority.getCode()];
+                candidates.forEachValue(record -> {
+                    if (status == null || record.status == status.getCode()) {
+                        matches.add(record);
+                    }
+                });
+                stripe.removeAll(matches);
+                deleted += matches.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+        return deleted;
+    }
+
+    public void deleteAll() {
+        for (Stripe stripe : stripes) {
+            Lock lock = stripe.lock.writeLock();
+            lock.lock();
+            try {
+                stripe.clear();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * findAfterId - Keyset page of to-do ordered by id, merged from the id index of every stripe.
+     *
+     * @param afterId - id of the last to-do of the previous page
+     * @param limit - maximum number of to-do
+     * @return - to-do with an id greater than afterId
+     */
+    public List<TodoDto> findAfterId(long afterId, int limit) {
+        List<Cursor> cursors = new ArrayList<>(STRIPES);
+        for (Stripe stripe : stripes) {
+            cursors.add(new Cursor(stripe, stripe.ids, 0, afterId, Integer.MAX_VALUE, TodoRecord.NO_CODE, limit));
+        }
+        return merge(cursors, BY_ID, limit);
+    }
+
+    /**
+     * findAllById - Looks up each id, in the order given.
+     *
+     * @param ids - to-do ids
+     * @return - the to-do found, missing ids are left out
+     */
+    public List<TodoDto> findAllById(Collection<Long> ids) {
+        List<TodoDto> todos = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            TodoRecord record = get(id);
+            if (record != null) {
+                todos.add(record.toDto());
+            }
+        }
+        return todos;
+    }
+
+    /**
+     * findByPriority - Reads the priority index of every stripe.
+     *
+     * @param priority - priority to match
+     * @param status - status to match, null for any
+     * @return - matching to-do ordered by id
+     */
+    public List<TodoDto> findByPriority(TodoPriority priority, TodoStatus status) {
+        List<TodoRecord> matches = new ArrayList<>();
+        for (Stripe stripe : stripes) {
+            Lock lock = stripe.lock.readLock();
+            lock.lock();
+            try {
+                stripe.byPriority[priority.getCode()].forEachValue(record -> {
+                    if (status == null || record.status == status.getCode()) {
+                        matches.add(record);
+                    }
+                });
+            } finally {
+                lock.unlock();
+            }
+        }
+        matches.sort(BY_ID);
+        return toDtos(matches);
+    }
+
+    /**
+     * findDueBetween - Keyset page of to-do due in [afterDueDate, beforeDueDate) after the (afterDueDate, afterId)
+     * position, ordered by due date and id, merged from the due date index of every stripe.
+     *
+     * @param afterDueDate - due date of the last to-do of the previous page, or start of the range
+     * @param afterId - id of the last to-do of the previous page
+     * @param beforeDueDate - end of the range, excluded
+     * @param excludedStatus - status left out, null for none
+     * @param limit - maximum number of to-do
+     * @return - matching to-do
+     */
+    public List<TodoDto> findDueBetween(LocalDate afterDueDate, long afterId, LocalDate beforeDueDate,
+                                        TodoStatus excludedStatus, int limit) {
+        byte excluded = excludedStatus == null ? TodoRecord.NO_CODE : (byte) excludedStatus.getCode();
+        List<Cursor> cursors = new ArrayList<>(STRIPES);
+        for (Stripe stripe : stripes) {
+            cursors.add(new Cursor(stripe, stripe.dueKeys, (int) afterDueDate.toEpochDay(), afterId,
+                    (int) beforeDueDate.toEpochDay(), excluded, limit));
+        }
+        return merge(cursors, BY_DUE_DATE_AND_ID, limit);
+    }
+
+    /**
+     * countByStatusAndPriority - Counts to-do by status and priority.
+     *
+     * @return - one row per status and priority pair with at least one to-do
+     */
+    public List<TodoStatusPriorityCount> countByStatusAndPriority() {
+        long[][] counts = new long[STATUS_CODES][PRIORITY_CODES];
+        for (Stripe stripe : stripes) {
+            Lock lock = stripe.lock.readLock();
+            lock.lock();
+            try {
+                stripe.records.forEachValue(record -> counts[record.status][record.priority]++);
+            } finally {
+                lock.unlock();
+            }
+        }
+        List<TodoStatusPriorityCount> rows = new ArrayList<>();
+        for (TodoStatus status : statusesAndNull()) {
+            for (TodoPriority priority : prioritiesAndNull()) {
+                long count = counts[status == null ? TodoRecord.NO_CODE : status.getCode()]
+                        [priority == null ? TodoRecord.NO_CODE : priority.getCode()];
+                if (count > 0) {
+                    rows.add(new Count(status, priority, count));
+                }
+            }
+        }
+        return rows;
+    }
+
+    private TodoRecord get(long id) {
+        Stripe stripe = stripe(id);
+        Lock lock = stripe.lock.readLock();
+        lock.lock();
+        try {
+            return stripe.records.get(id);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Takes the smallest head of all stripes until the page is full, each cursor only reads its stripe when it runs dry
+    private static List<TodoDto> merge(List<Cursor> cursors, Comparator<TodoRecord> order, int limit) {
+        PriorityQueue<Cursor> heads = new PriorityQueue<>(STRIPES, Comparator.comparing(Cursor::head, order));
+        for (Cursor cursor : cursors) {
+            if (cursor.head() != null) {
+                heads.add(cursor);
+            }
+        }
+        List<TodoDto> page = new ArrayList<>(Math.min(limit, 1024));
+        while (page.size() < limit && !heads.isEmpty()) {
+            Cursor cursor = heads.poll();
+            page.add(cursor.head().toDto());
+            cursor.advance();
+            if (cursor.head() != null) {
+                heads.add(cursor);
+            }
+        }
+        return page;
+    }
+
+    private Stripe stripe(long id) {
+        return stripes[(int) (id ^ (id >>> 32)) & (STRIPES - 1)];
+    }
+
+    private static List<TodoDto> toDtos(List<TodoRecord> records) {
+        List<TodoDto> todos = new ArrayList<>(records.size());
+        for (TodoRecord record : records) {
+            todos.add(record.toDto());
+        }
+        return todos;
+    }
+
+    private static List<TodoStatus> statusesAndNull() {
+        List<TodoStatus> statuses = new ArrayList<>(List.of(TodoStatus.values()));
+        statuses.add(null);
+        return statuses;
+    }
+
+    private static List<TodoPriority> prioritiesAndNull() {
+        List<TodoPriority> priorities = new ArrayList<>(List.of(TodoPriority.values()));
+        priorities.add(null);
+        return priorities;
+    }
+
+    // Records of one stripe, the same records indexed by priority code, NO_CODE holding those without,
+    // their ids in order and the (due date, id) keys of those with a due date in order
+    private static final class Stripe {
+
+        final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+        final LongObjectMap<TodoRecord> records = new LongObjectMap<>();
+
+        final SortedKeyIndex ids = new SortedKeyIndex(false);
+
+        final SortedKeyIndex dueKeys = new SortedKeyIndex(true);
+
+        final LongObjectMap<TodoRecord>[] byPriority;
+
+        @SuppressWarnings("unchecked")
+        Stripe() {
+            byPriority = new LongObjectMap[PRIORITY_CODES];
+            for (int code = 0; code < byPriority.length; code++) {
+                byPriority[code] = new LongObjectMap<>();
+            }
+        }
+
+        TodoRecord put(TodoRecord record) {
+            TodoRecord previous = records.put(record.id, record);
+            if (previous != null) {
+                byPriority[previous.priority].remove(previous.id);
+            }
+            byPriority[record.priority].put(record.id, record);
+            if (previous == null) {
+                ids.add(0, record.id);
+            } else if (previous.dueDate != record.dueDate && previous.dueDate != TodoRecord.NO_DATE) {
+                dueKeys.remove(previous.dueDate, previous.id);
+            }
+            if (record.dueDate != TodoRecord.NO_DATE) {
+                dueKeys.add(record.dueDate, record.id);
+            }
+            return previous;
+        }
+
+        TodoRecord remove(long id) {
+            TodoRecord removed = records.remove(id);
+            if (removed != null) {
+                byPriority[removed.priority].remove(id);
+                ids.remove(0, id);
+                if (removed.dueDate != TodoRecord.NO_DATE) {
+                    dueKeys.remove(removed.dueDate, id);
+                }
+            }
+            return removed;
+        }
+
+        // Removes many records, the ordered indexes are compacted once instead of shifted per record
+        void removeAll(List<TodoRecord> removed) {
+            for (TodoRecord record : removed) {
+                records.remove(record.id);
+                byPriority[record.priority].remove(record.id);
+            }
+            ids.retainIf(id -> records.get(id) != null);
+            dueKeys.retainIf(id -> records.get(id) != null);
+        }
+
+        void clear() {
+            records.clear();
+            ids.clear();
+            dueKeys.clear();
+            for (LongObjectMap<TodoRecord> index : byPriority) {
+                index.clear();
+            }
+        }
+    }
+
+    /*
+     * Position in the ordered index of one stripe, after the (major, minor) key last read and before the
+     * major key end. Records are copied out in chunks under the stripe's read lock, so the index and the records
+     * read agree, a stripe written between two chunks is read on from the last key.
+     */
+    private static final class Cursor {
+
+        private final Stripe stripe;
+
+        private final SortedKeyIndex index;
+
+        private final int endMajor;
+
+        private final byte excludedStatus;
+
+        private final TodoRecord[] chunk;
+
+        private int lastMajor;
+
+        private long lastMinor;
+
+        private int position;
+
+        private int count;
+
+        private boolean exhausted;
+
+        Cursor(Stripe stripe, SortedKeyIndex index, int afterMajor, long afterMinor, int endMajor, byte excludedStatus, int limit) {
+            this.stripe = stripe;
+            this.index = index;
+            this.endMajor = endMajor;
+            this.excludedStatus = excludedStatus;
+            // Ids spread evenly over the stripes, each contributes about limit / STRIPES to a page
+            this.chunk = new TodoRecord[limit / STRIPES + 2];
+            this.lastMajor = afterMajor;
+            this.lastMinor = afterMinor;
+        }
+
+        TodoRecord head() {
+            if (position == count && !exhausted) {
+                read();
+            }
+            return position < count ? chunk[position] : null;
+        }
+
+        void advance() {
+            position++;
+        }
+
+        private void read() {
+            position = 0;
+            count = 0;
+            Lock lock = stripe.lock.readLock();
+            lock.lock();
+            try {
+                int i = index.after(lastMajor, lastMinor);
+                for (; i < index.size() && index.majorAt(i) < endMajor && count < chunk.length; i++) {
+                    TodoRecord record = stripe.records.get(index.minorAt(i));
+                    if (excludedStatus == TodoRecord.NO_CODE || record.status != excludedStatus) {
+                        chunk[count++] = record;
+                    }
+                    lastMajor = index.majorAt(i);
+                    lastMinor = index.minorAt(i);
+                }
+                exhausted = i == index.size() || index.majorAt(i) >= endMajor;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private static final class Count implements TodoStatusPriorityCount {
+
+        private final TodoStatus status;
+
+        private final TodoPriority priority;
+
+        private final long count;
+
+        Count(TodoStatus status, TodoPriority priority, long count) {
+            this.status = status;
+            this.priority = priority;
+            this.count = count;
+        }
+
+        @Override
+        public TodoStatus getStatus() {
+            return status;
+        }
+
+        @Override
+        public TodoPriority getPriority() {
+            return priority;
+        }
+
+        @Override
+        public long getCount() {
+            return count;
+        }
+    }
+}
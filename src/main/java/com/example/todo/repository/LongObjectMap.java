@@ -0,0 +1,136 @@
+package com.example.todo.repository;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * Open addressing hash map from primitive long keys to non null values, ids are never boxed.
+ * Linear probing, removal shifts the following entries back instead of leaving tombstones.
+ * Not thread safe, InMemoryTodoStore guards each instance with the lock of its stripe.
+ */
+
+final class LongObjectMap<V> {
+
+    private static final float LOAD_FACTOR = 0.6f;
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+
+    // A null value marks a free slot
+    private Object[] values;
+
+    private int size;
+
+    private int mask;
+
+    private int resizeAt;
+
+    LongObjectMap() {
+        allocate(MIN_CAPACITY);
+    }
+
+    int size() {
+        return size;
+    }
+
+    @SuppressWarnings("unchecked")
+    V get(long key) {
+        for (int i = slot(key); values[i] != null; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return (V) values[i];
+            }
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    V put(long key, V value) {
+        Objects.requireNonNull(value);
+        int i = slot(key);
+        for (; values[i] != null; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                V previous = (V) values[i];
+                values[i] = value;
+                return previous;
+            }
+        }
+        keys[i] = key;
+        values[i] = value;
+        if (++size > resizeAt) {
+            allocate(keys.length * 2);
+        }
+        return null;
+    }
+
+    @SuppressWarnings("unchecked")
+    V remove(long key) {
+        int gap = slot(key);
+        while (values[gap] != null && keys[gap] != key) {
+            gap = (gap + 1) & mask;
+        }
+        if (values[gap] == null) {
+            return null;
+        }
+        V removed = (V) values[gap];
+        // Move back every following entry of the probe run whose home slot is not after the gap
+        for (int i = (gap + 1) & mask; values[i] != null; i = (i + 1) & mask) {
+            int home = slot(keys[i]);
+            if (((i - home) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = keys[i];
+                values[gap] = values[i];
+                gap = i;
+            }
+        }
+        values[gap] = null;
+        size--;
+        return removed;
+    }
+
+    @SuppressWarnings("unchecked")
+    void forEachValue(Consumer<V> action) {
+        for (Object value : values) {
+            if (value != null) {
+                action.accept((V) value);
+            }
+        }
+    }
+
+    void clear() {
+        allocate(MIN_CAPACITY);
+    }
+
+    private int slot(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private void allocate(int capacity) {
+        long[] oldKeys = keys;
+        Object[] oldValues = values;
+        keys = new long[capacity];
+        values = new Object[capacity];
+        mask = capacity - 1;
+        resizeAt = (int) (capacity * LOAD_FACTOR);
+        size = 0;
+        if (oldValues != null && capacity > oldValues.length) {
+            for (int i = 0; i < oldValues.length; i++) {
+                if (oldValues[i] != null) {
+                    reinsert(oldKeys[i], oldValues[i]);
+                }
+            }
+        }
+    }
+
+    private void reinsert(long key, Object value) {
+        int i = slot(key);
+        while (values[i] != null) {
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        values[i] = value;
+        size++;
+    }
+}
@@ -0,0 +1,137 @@
+package com.example.todo.repository;
+
+import java.util.Arrays;
+import java.util.function.LongPredicate;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * Sorted set of primitive (int major, long minor) keys in parallel arrays, ordered by major then minor.
+ * Without majors every major is 0 and the index is a sorted set of longs, ids are never boxed.
+ * Adds and removes shift the tail of the arrays, keys added in ascending order are appended.
+ * Not thread safe, InMemoryTodoStore guards each instance with the lock of its stripe.
+ */
+
+final class SortedKeyIndex {
+
+    private static final int MIN_CAPACITY = 16;
+
+    // Null when the index has no majors
+    private int[] majors;
+
+    private long[] minors;
+
+    private int size;
+
+    SortedKeyIndex(boolean withMajors) {
+        majors = withMajors ? new int[MIN_CAPACITY] : null;
+        minors = new long[MIN_CAPACITY];
+    }
+
+    int size() {
+        return size;
+    }
+
+    int majorAt(int index) {
+        return majors == null ? 0 : majors[index];
+    }
+
+    long minorAt(int index) {
+        return minors[index];
+    }
+
+    /**
+     * add - Adds a key if it is not already in the index.
+     *
+     * @param major - major key, 0 without majors
+     * @param minor - minor key
+     * @return - true when the key was added
+     */
+    boolean add(int major, long minor) {
+        int index = after(major, minor);
+        if (index > 0 && compare(index - 1, major, minor) == 0) {
+            return false;
+        }
+        if (size == minors.length) {
+            grow();
+        }
+        if (majors != null) {
+            System.arraycopy(majors, index, majors, index + 1, size - index);
+            majors[index] = major;
+        }
+        System.arraycopy(minors, index, minors, index + 1, size - index);
+        minors[index] = minor;
+        size++;
+        return true;
+    }
+
+    boolean remove(int major, long minor) {
+        int index = after(major, minor) - 1;
+        if (index < 0 || compare(index, major, minor) != 0) {
+            return false;
+        }
+        if (majors != null) {
+            System.arraycopy(majors, index + 1, majors, index, size - index - 1);
+        }
+        System.arraycopy(minors, index + 1, minors, index, size - index - 1);
+        size--;
+        return true;
+    }
+
+    /**
+     * after - Binary search for the position following a key, which need not be in the index.
+     *
+     * @param major - major key, 0 without majors
+     * @param minor - minor key
+     * @return - index of the first key greater than (major, minor), size when there is none
+     */
+    int after(int major, long minor) {
+        int low = 0;
+        int high = size;
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compare(middle, major, minor) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * retainIf - Keeps the keys whose minor matches, in one pass instead of a shift per removed key.
+     *
+     * @param keep - predicate on the minor key
+     */
+    void retainIf(LongPredicate keep) {
+        int kept = 0;
+        for (int i = 0; i < size; i++) {
+            if (keep.test(minors[i])) {
+                if (majors != null) {
+                    majors[kept] = majors[i];
+                }
+                minors[kept++] = minors[i];
+            }
+        }
+        size = kept;
+    }
+
+    void clear() {
+        majors = majors == null ? null : new int[MIN_CAPACITY];
+        minors = new long[MIN_CAPACITY];
+        size = 0;
+    }
+
+    private int compare(int index, int major, long minor) {
+        int byMajor = majors == null ? 0 : Integer.compare(majors[index], major);
+        return byMajor != 0 ? byMajor : Long.compare(minors[index], minor);
+    }
+
+    private void grow() {
+        if (majors != null) {
+            majors = Arrays.copyOf(majors, majors.length * 2);
+        }
+        minors = Arrays.copyOf(minors, minors.length * 2);
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.todo.repository;
+
+import com.example.todo.model.TodoPriority;
+import com.example.todo.model.TodoStatus;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * Projection of the id, status and priority of one to-do, what a delete or patch must know to keep counts by status and priority
+ */
+
+
+public interface TodoIdStatusPriority {
+
+    long getId();
+
+    TodoStatus getStatus();
+
+    TodoPriority getPriority();
+}
@@ -0,0 +1,87 @@
+package com.example.todo.repository;
+
+import com.example.todo.model.TodoDto;
+import com.example.todo.model.TodoPriority;
+import com.example.todo.model.TodoStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * Immutable to-do as held by InMemoryTodoStore, an update replaces the whole record.
+ * Status and priority are kept as their byte codes and the due date as its epoch day.
+ */
+
+final class TodoRecord {
+
+    // Code of an unset status or priority, and epoch day of an unset due date
+    static final byte NO_CODE = 0;
+
+    static final int NO_DATE = Integer.MIN_VALUE;
+
+    // Shared enum constants by code, decoding does not search values()
+    private static final TodoStatus[] STATUS_BY_CODE = new TodoStatus[Byte.MAX_VALUE + 1];
+
+    private static final TodoPriority[] PRIORITY_BY_CODE = new TodoPriority[Byte.MAX_VALUE + 1];
+
+    static {
+        for (TodoStatus status : TodoStatus.values()) {
+            STATUS_BY_CODE[status.getCode()] = status;
+        }
+        for (TodoPriority priority : TodoPriority.values()) {
+            PRIORITY_BY_CODE[priority.getCode()] = priority;
+        }
+    }
+
+    final long id;
+
+    final long version;
+
+    final String title;
+
+    final String description;
+
+    final byte status;
+
+    final byte priority;
+
+    final int dueDate;
+
+    final LocalDateTime createdAt;
+
+    final LocalDateTime updatedAt;
+
+    private TodoRecord(long id, long version, TodoDto todo) {
+        this.id = id;
+        this.version = version;
+        this.title = todo.getTitle();
+        this.description = todo.getDescription();
+        this.status = todo.getStatus() == null ? NO_CODE : (byte) todo.getStatus().getCode();
+        this.priority = todo.getPriority() == null ? NO_CODE : (byte) todo.getPriority().getCode();
+        this.dueDate = todo.getDueDate() == null ? NO_DATE : (int) todo.getDueDate().toEpochDay();
+        this.createdAt = todo.getCreatedAt();
+        this.updatedAt = todo.getUpdatedAt();
+    }
+
+    static TodoRecord of(long id, long version, TodoDto todo) {
+        return new TodoRecord(id, version, todo);
+    }
+
+    TodoStatus status() {
+        return STATUS_BY_CODE[status];
+    }
+
+    TodoPriority priority() {
+        return PRIORITY_BY_CODE[priority];
+    }
+
+    LocalDate dueDate() {
+        return dueDate == NO_DATE ? null : LocalDate.ofEpochDay(dueDate);
+    }
+
+    TodoDto toDto() {
+        return new TodoDto(id, title, description, status(), priority(), dueDate(), createdAt, updatedAt, version);
+    }
+}
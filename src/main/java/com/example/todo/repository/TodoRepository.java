@@ -1,10 +1,26 @@
 package com.example.todo.repository;
 
 import com.example.todo.entity.TodoEntity;
+import com.example.todo.model.TodoDto;
+import com.example.todo.model.TodoPriority;
+import com.example.todo.model.TodoStatus;
+import org.springframework.data.domain.Limit;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /*
  * Author: Sachin Hol
@@ -14,6 +30,80 @@ import java.util.List;
 
 
 @Repository
-public interface TodoRepository extends JpaRepository<TodoEntity, Long> {
-    List<TodoEntity> findByPriority(String toDoPriority);
+public interface TodoRepository extends JpaRepository<TodoEntity, Long>, TodoRepositoryCustom {
+
+    // Constructor expression for the list reads, rows go straight into TodoDto without
+    // managed entities or dirty checking snapshots in the persistence context
+    String TODO_DTO_SELECT = "select new com.example.todo.model.TodoDto(t.id, t.title, t.description, t.status, t.priority,"
+            + " t.dueDate, t.createdAt, t.updatedAt, t.version) from TodoEntity t";
+
+    // Keyset page: the next `limit` to-dos after the given id, walking the primary key index
+    @Query(TODO_DTO_SELECT + " where t.id > :afterId order by t.id asc")
+    List<TodoDto> findDtosAfterId(@Param("afterId") long afterId, Limit limit);
+
+    // Priority finders behind /find are query cached, Hibernate drops the cached results whenever
+    // it writes to the table, so they only serve reads with no write in between
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query(TODO_DTO_SELECT + " where t.priority = :priority")
+    List<TodoDto> findDtosByPriority(@Param("priority") TodoPriority priority);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query(TODO_DTO_SELECT + " where t.priority = :priority and t.status = :status")
+    List<TodoDto> findDtosByPriorityAndStatus(@Param("priority") TodoPriority priority, @Param("status") TodoStatus status);
+
+    // Only the version column, enough to answer conditional requests without loading the row
+    @Query("select t.version from TodoEntity t where t.id = :id")
+    Optional<Long> findVersionById(@Param("id") long id);
+
+    // Keyset page of to-do due in [afterDueDate, beforeDueDate) after the (afterDueDate, afterId) position,
+    // both bounds are on dueDate so idx_todo_due_date is range scanned
+    @Query("select t from TodoEntity t where t.dueDate >= :afterDueDate and t.dueDate < :beforeDueDate"
+            + " and (t.dueDate > :afterDueDate or t.id > :afterId) order by t.dueDate asc, t.id asc")
+    List<TodoEntity> findDueBetween(@Param("afterDueDate") LocalDate afterDueDate, @Param("afterId") long afterId,
+                                    @Param("beforeDueDate") LocalDate beforeDueDate, Limit limit);
+
+    @Query("select t from TodoEntity t where t.dueDate >= :afterDueDate and t.dueDate < :beforeDueDate"
+            + " and (t.dueDate > :afterDueDate or t.id > :afterId)"
+            + " and (t.status is null or t.status <> :excludedStatus) order by t.dueDate asc, t.id asc")
+    List<TodoEntity> findDueBetweenExcludingStatus(@Param("afterDueDate") LocalDate afterDueDate, @Param("afterId") long afterId,
+                                                   @Param("beforeDueDate") LocalDate beforeDueDate,
+                                                   @Param("excludedStatus") TodoStatus excludedStatus, Limit limit);
+
+    // Served from idx_todo_priority_status alone, the rows themselves are not read
+    @Query("select t.status as status, t.priority as priority, count(t) as count from TodoEntity t group by t.priority, t.status")
+    List<TodoStatusPriorityCount> countByStatusAndPriority();
+
+    // Set based deletes, one statement each, the affected row count tells what was deleted
+    @Modifying
+    @Query("delete from TodoEntity t where t.id = :id")
+    int deleteTodoById(@Param("id") long id);
+
+    // Status and priority of the given to-do that exist, read before a delete or patch and locked until it commits,
+    // so the change events carry the values the write replaced
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select t.id as id, t.status as status, t.priority as priority from TodoEntity t where t.id in :ids")
+    List<TodoIdStatusPriority> findStatusPriorityByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("delete from TodoEntity t where t.id in :ids")
+    int deleteTodosByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("delete from TodoEntity t where t.status = :status")
+    int deleteTodosByStatus(@Param("status") TodoStatus status);
+
+    @Modifying
+    @Query("delete from TodoEntity t where t.priority = :priority")
+    int deleteTodosByPriority(@Param("priority") TodoPriority priority);
+
+    @Modifying
+    @Query("delete from TodoEntity t where t.priority = :priority and t.status = :status")
+    int deleteTodosByPriorityAndStatus(@Param("priority") TodoPriority priority, @Param("status") TodoStatus status);
+
+    // Scrolls over every to-do for export, must be consumed inside a transaction and closed
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    Stream<TodoEntity> streamAllByOrderByIdAsc();
 }
@@ -0,0 +1,16 @@
+package com.example.todo.repository;
+
+import com.example.todo.model.TodoDto;
+
+import java.time.LocalDateTime;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * Hand written to-do repository queries which Spring Data cannot derive
+ */
+
+
+public interface TodoRepositoryCustom {
+    int patchTodo(long id, long expectedVersion, TodoDto changes, LocalDateTime updatedAt);
+}
@@ -0,0 +1,64 @@
+package com.example.todo.repository;
+
+import com.example.todo.entity.TodoEntity;
+import com.example.todo.model.TodoDto;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+
+import java.time.LocalDateTime;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * Implementation of the hand written to-do repository queries
+ */
+
+
+public class TodoRepositoryImpl implements TodoRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * patchTodo - Updates only the non null fields of changes with one UPDATE statement,
+     * guarded by the expected version, and increments the version.
+     *
+     * @param id - to-do id
+     * @param expectedVersion - version the caller has seen
+     * @param changes - fields to change, null fields are left untouched
+     * @param updatedAt - new updatedAt value
+     * @return - number of updated rows, 0 when the to-do is missing or at another version
+     */
+    @Override
+    public int patchTodo(long id, long expectedVersion, TodoDto changes, LocalDateTime updatedAt) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<TodoEntity> update = criteriaBuilder.createCriteriaUpdate(TodoEntity.class);
+        Root<TodoEntity> todo = update.from(TodoEntity.class);
+
+        if (changes.getTitle() != null) {
+            update.set(todo.get("title"), changes.getTitle());
+        }
+        if (changes.getDescription() != null) {
+            update.set(todo.get("description"), changes.getDescription());
+        }
+        if (changes.getStatus() != null) {
+            update.set(todo.get("status"), changes.getStatus());
+        }
+        if (changes.getPriority() != null) {
+            update.set(todo.get("priority"), changes.getPriority());
+        }
+        if (changes.getDueDate() != null) {
+            update.set(todo.get("dueDate"), changes.getDueDate());
+        }
+        update.set(todo.get("updatedAt"), updatedAt);
+        update.set(todo.<Long>get("version"), criteriaBuilder.sum(todo.get("version"), 1L));
+        update.where(
+                criteriaBuilder.equal(todo.get("id"), id),
+                criteriaBuilder.equal(todo.get("version"), expectedVersion));
+
+        return entityManager.createQuery(update).executeUpdate();
+    }
+}
@@ -0,0 +1,20 @@
+package com.example.todo.repository;
+
+import com.example.todo.model.TodoPriority;
+import com.example.todo.model.TodoStatus;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * Projection of one row of the count of to-do grouped by status and priority
+ */
+
+
+public interface TodoStatusPriorityCount {
+
+    TodoStatus getStatus();
+
+    TodoPriority getPriority();
+
+    long getCount();
+}
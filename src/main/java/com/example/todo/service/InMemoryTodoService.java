@@ -0,0 +1,335 @@
+package com.example.todo.service;
+
+import com.example.todo.config.MetricsConfig;
+import com.example.todo.event.TodoChangeEvent;
+import com.example.todo.exceptions.InvalidTodoRequestException;
+import com.example.todo.exceptions.TodoNotFoundException;
+import com.example.todo.exceptions.TodoPreconditionFailedException;
+import com.example.todo.exceptions.TodoVersionConflictException;
+import com.example.todo.model.TodoAgendaRange;
+import com.example.todo.model.TodoBulkDeleteDto;
+import com.example.todo.model.TodoDto;
+import com.example.todo.model.TodoPageDto;
+import com.example.todo.model.TodoPriority;
+import com.example.todo.model.TodoStatus;
+import com.example.todo.repository.InMemoryTodoStore;
+import com.example.todo.repository.TodoStatusPriorityCount;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * TodoService of the memory profile, for ephemeral deployments where nothing needs to outlive the process.
+ * Same contract as TodoServiceImpl, but to-do live in the InMemoryTodoStore instead of going through JPA.
+ * Updates are compare-and-set on the version, an update without a version retries until it applies.
+ */
+
+
+@Service
+@Profile("memory")
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
+public class InMemoryTodoService implements TodoService {
+
+    private static final Logger logger = LoggerFactory.getLogger(InMemoryTodoService.class);
+
+    // Rows written by exportTodos per page read from the store, and between two flushes of the response
+    static final int EXPORT_PAGE_SIZE = 1000;
+
+    @Autowired
+    private InMemoryTodoStore todoStore;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Override
+    public TodoDto createTodo(TodoDto todo) {
+        logger.info("Creating new Todo: {}", todo);
+        TodoDto savedTodo = todoStore.insert(todo);
+        eventPublisher.publishEvent(TodoChangeEvent.created(savedTodo));
+        logger.info("Todo created with ID: {}", savedTodo.getId());
+        return savedTodo;
+    }
+
+    @Override
+    public List<TodoDto> createTodos(List<TodoDto> todos) {
+        logger.info("Bulk creating {} Todos", todos.size());
+        List<TodoDto> createdTodos = new ArrayList<>(todos.size());
+        for (TodoDto todo : todos) {
+            TodoDto savedTodo = todoStore.insert(todo);
+            eventPublisher.publishEvent(TodoChangeEvent.created(savedTodo));
+            createdTodos.add(savedTodo);
+        }
+        return createdTodos;
+    }
+
+    @Override
+    @Counted(value = MetricsConfig.SERVICE_FAILURES, recordFailuresOnly = true)
+    public TodoPageDto getAllTodo(String cursor, Integer pageSize) {
+        int size = TodoServiceImpl.resolvePageSize(pageSize);
+        long afterId = cursor == null ? Long.MIN_VALUE : TodoCursor.decode(cursor);
+        logger.info("Fetching Todos after ID: {} page size: {}", afterId, size);
+
+        List<TodoDto> todos = todoStore.findAfterId(afterId, size + 1);
+        if (todos.isEmpty() && cursor == null) {
+            logger.error("No Todos found");
+            throw new TodoNotFoundException("No Todo items found");
+        }
+        boolean hasNext = todos.size() > size;
+        List<TodoDto> page = hasNext ? new ArrayList<>(todos.subList(0, size)) : todos;
+        String nextCursor = hasNext ? TodoCursor.encode(page.get(page.size() - 1).getId()) : null;
+        return new TodoPageDto(page, page.size(), nextCursor);
+    }
+
+    @Override
+    public long exportTodos(OutputStream outputStream) throws IOException {
+        logger.info("Exporting all Todos");
+        long exported = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(new SerializedString("\n"));
+
+            List<TodoDto> page = todoStore.findAfterId(Long.MIN_VALUE, EXPORT_PAGE_SIZE);
+            while (!page.isEmpty()) {
+                for (TodoDto todo : page) {
+                    generator.writeObject(todo);
+                }
+                exported += page.size();
+                generator.flush();
+                page = todoStore.findAfterId(page.get(page.size() - 1).getId(), EXPORT_PAGE_SIZE);
+            }
+            if (exported > 0) {
+                generator.writeRaw('\n');
+            }
+        }
+        logger.info("Total Todos exported: {}", exported);
+        return exported;
+    }
+
+    @Override
+    public TodoPageDto getAgenda(TodoAgendaRange range, Integer days, String cursor, Integer pageSize) {
+        int size = TodoServiceImpl.resolvePageSize(pageSize);
+        LocalDate today = LocalDate.now();
+        LocalDate fromDueDate = range == TodoAgendaRange.OVERDUE ? TodoServiceImpl.EARLIEST_DUE_DATE : today;
+        LocalDate beforeDueDate = switch (range) {
+            case OVERDUE -> today;
+            case TODAY -> today.plusDays(1);
+            case UPCOMING -> today.plusDays(TodoServiceImpl.resolveAgendaDays(days) + 1L);
+        };
+
+        LocalDate afterDueDate = fromDueDate;
+        long afterId = Long.MIN_VALUE;
+        if (cursor != null) {
+            TodoCursor.DuePosition after = TodoCursor.decodeDue(cursor);
+            // A cursor handed out before midnight may point before the range, start the range over then
+            if (!after.dueDate.isBefore(fromDueDate)) {
+                afterDueDate = after.dueDate;
+                afterId = after.id;
+            }
+        }
+        logger.info("Fetching {} agenda due before {} after {}/{} page size: {}", range, beforeDueDate, afterDueDate, afterId, size);
+
+        TodoStatus excludedStatus = range == TodoAgendaRange.OVERDUE ? TodoStatus.DONE : null;
+        List<TodoDto> todos = todoStore.findDueBetween(afterDueDate, afterId, beforeDueDate, excludedStatus, size + 1);
+
+        boolean hasNext = todos.size() > size;
+        List<TodoDto> page = hasNext ? new ArrayList<>(todos.subList(0, size)) : todos;
+        String nextCursor = null;
+        if (hasNext) {
+            TodoDto last = page.get(page.size() - 1);
+            nextCursor = TodoCursor.encodeDue(last.getDueDate(), last.getId());
+        }
+        return new TodoPageDto(page, page.size(), nextCursor);
+    }
+
+    @Override
+    @Counted(value = MetricsConfig.SERVICE_FAILURES, recordFailuresOnly = true)
+    public TodoDto getToDoById(Long todoId) {
+        logger.info("Fetching Todo with ID: {}", todoId);
+        TodoDto todo = todoStore.findById(todoId);
+        if (todo == null) {
+            logger.error("Todo with ID: {} not found", todoId);
+            throw new TodoNotFoundException("Todo task not found with ID: " + todoId);
+        }
+        return todo;
+    }
+
+    @Override
+    public List<TodoDto> getTodosByIds(List<Long> todoIds) {
+        return todoStore.findAllById(todoIds);
+    }
+
+    @Override
+    @Counted(value = MetricsConfig.SERVICE_FAILURES, recordFailuresOnly = true)
+    public long getTodoVersion(Long todoId) {
+        return todoStore.findVersionById(todoId)
+                .orElseThrow(() -> {
+                    logger.error("Todo with ID: {} not found", todoId);
+                    return new TodoNotFoundException("Todo task not found with ID: " + todoId);
+                });
+    }
+
+    @Override
+    @Counted(value = MetricsConfig.SERVICE_FAILURES, recordFailuresOnly = true)
+    public void deleteTodoById(Long todoId) {
+        logger.info("Deleting Todo with ID: {}", todoId);
+        TodoDto deletedTodo = todoStore.deleteById(todoId);
+        if (deletedTodo == null) {
+            logger.error("Todo with ID: {} not found, deletion failed", todoId);
+            throw new TodoNotFoundException("Todo task not found with ID: " + todoId);
+        }
+        eventPublisher.publishEvent(TodoChangeEvent.deleted(todoId, deletedTodo.getStatus(), deletedTodo.getPriority()));
+        logger.info("Todo with ID: {} deleted", todoId);
+    }
+
+    @Override
+    public int deleteTodos(TodoBulkDeleteDto bulkDelete) {
+        List<Long> ids = bulkDelete.getIds();
+        TodoStatus status = bulkDelete.getStatus();
+        TodoPriority priority = bulkDelete.getPriority();
+        int deleted;
+
+        if (ids != null && !ids.isEmpty()) {
+            if (status != null || priority != null) {
+                throw new InvalidTodoRequestException("Bulk delete takes either ids or a status/priority filter, not both");
+            }
+            logger.info("Bulk deleting {} Todos by ID", ids.size());
+            deleted = 0;
+            for (Long id : ids) {
+                TodoDto deletedTodo = todoStore.deleteById(id);
+                if (deletedTodo != null) {
+                    deleted++;
+                    eventPublisher.publishEvent(TodoChangeEvent.deleted(id, deletedTodo.getStatus(), deletedTodo.getPriority()));
+                }
+            }
+        } else if (status != null || priority != null) {
+            logger.info("Bulk deleting Todos with priority: {} and status: {}", priority, status);
+            deleted = todoStore.deleteWhere(status, priority);
+            eventPublisher.publishEvent(TodoChangeEvent.bulkDeleted(bulkDelete, deleted));
+        } else {
+            throw new InvalidTodoRequestException("Bulk delete needs ids or a status/priority filter");
+        }
+        logger.info("Total Todos deleted: {}", deleted);
+        return deleted;
+    }
+
+    @Override
+    @Counted(value = MetricsConfig.SERVICE_FAILURES, recordFailuresOnly = true)
+    public TodoDto updateTodoById(Long todoId, TodoDto todoDetails) {
+        logger.info("Updating Todo with ID: {}", todoId);
+        while (true) {
+            TodoDto existingTodo = todoStore.findById(todoId);
+            if (existingTodo == null) {
+                logger.error("Todo with ID: {} not found for update", todoId);
+                throw new TodoNotFoundException("Todo task not found with ID: " + todoId);
+            }
+            if (todoDetails.getVersion() != null && !todoDetails.getVersion().equals(existingTodo.getVersion())) {
+                logger.error("Todo with ID: {} is at version {}, update expected version {}", todoId, existingTodo.getVersion(), todoDetails.getVersion());
+                throw new TodoPreconditionFailedException("Todo task with ID: " + todoId + " has been modified, current version: " + existingTodo.getVersion());
+            }
+            TodoStatus previousStatus = existingTodo.getStatus();
+            TodoPriority previousPriority = existingTodo.getPriority();
+            applyChanges(existingTodo, todoDetails);
+
+            TodoDto updatedTodo = todoStore.replace(todoId, existingTodo.getVersion(), existingTodo);
+            if (updatedTodo != null) {
+                eventPublisher.publishEvent(TodoChangeEvent.updated(updatedTodo, previousStatus, previousPriority));
+                logger.info("Todo with ID: {} updated successfully", todoId);
+                return updatedTodo;
+            }
+            // Changed or deleted since it was read, read it again
+        }
+    }
+
+    @Override
+    @Counted(value = MetricsConfig.SERVICE_FAILURES, recordFailuresOnly = true)
+    public long patchTodoById(Long todoId, TodoDto changes) {
+        logger.info("Patching Todo with ID: {}", todoId);
+        if (changes.getVersion() == null) {
+            throw new InvalidTodoRequestException("Version is required to patch Todo task with ID: " + todoId);
+        }
+        TodoDto existingTodo = todoStore.findById(todoId);
+        if (existingTodo == null) {
+            logger.error("Todo with ID: {} not found for patch", todoId);
+            throw new TodoNotFoundException("Todo task not found with ID: " + todoId);
+        }
+        // Replaced only if still at the version read, so these are the values the patch replaces
+        TodoStatus previousStatus = existingTodo.getStatus();
+        TodoPriority previousPriority = existingTodo.getPriority();
+        applyChanges(existingTodo, changes);
+        TodoDto patchedTodo = todoStore.replace(todoId, changes.getVersion(), existingTodo);
+        if (patchedTodo == null) {
+            if (!todoStore.existsById(todoId)) {
+                logger.error("Todo with ID: {} not found for patch", todoId);
+                throw new TodoNotFoundException("Todo task not found with ID: " + todoId);
+            }
+            logger.error("Todo with ID: {} is no longer at version {}", todoId, changes.getVersion());
+            throw new TodoVersionConflictException("Todo task with ID: " + todoId + " is no longer at version " + changes.getVersion());
+        }
+        eventPublisher.publishEvent(TodoChangeEvent.patched(todoId, changes, patchedTodo.getVersion(), previousStatus, previousPriority));
+        logger.info("Todo with ID: {} patched successfully", todoId);
+        return patchedTodo.getVersion();
+    }
+
+    @Override
+    @Counted(value = MetricsConfig.SERVICE_FAILURES, recordFailuresOnly = true)
+    public List<TodoDto> getTodoByPriority(TodoPriority toDoPriority) {
+        logger.info("Fetching Todos by priority: {}", toDoPriority);
+        List<TodoDto> todos = todoStore.findByPriority(toDoPriority, null);
+        if (todos.isEmpty()) {
+            logger.error("No Todos found with priority: {}", toDoPriority);
+            throw new TodoNotFoundException("No Todos found with priority: " + toDoPriority);
+        }
+        return todos;
+    }
+
+    @Override
+    @Counted(value = MetricsConfig.SERVICE_FAILURES, recordFailuresOnly = true)
+    public List<TodoDto> getTodoByPriorityAndStatus(TodoPriority toDoPriority, TodoStatus status) {
+        logger.info("Fetching Todos by priority: {} and status: {}", toDoPriority, status);
+        List<TodoDto> todos = todoStore.findByPriority(toDoPriority, status);
+        if (todos.isEmpty()) {
+            logger.error("No Todos found with priority: {} and status: {}", toDoPriority, status);
+            throw new TodoNotFoundException("No Todos found with priority: " + toDoPriority + " and status: " + status);
+        }
+        return todos;
+    }
+
+    @Override
+    public List<TodoStatusPriorityCount> countTodosByStatusAndPriority() {
+        return todoStore.countByStatusAndPriority();
+    }
+
+    /**
+     * applyChanges - Copies the non null fields of the changes onto the to-do and stamps the update time.
+     *
+     * @param todo - to-do as read from the store
+     * @param changes - fields to change
+     */
+    private void applyChanges(TodoDto todo, TodoDto changes) {
+        todo.setTitle(changes.getTitle() != null ? changes.getTitle() : todo.getTitle());
+        todo.setDescription(changes.getDescription() != null ? changes.getDescription() : todo.getDescription());
+        todo.setPriority(changes.getPriority() != null ? changes.getPriority() : todo.getPriority());
+        todo.setStatus(changes.getStatus() != null ? changes.getStatus() : todo.getStatus());
+        todo.setDueDate(changes.getDueDate() != null ? changes.getDueDate() : todo.getDueDate());
+        todo.setUpdatedAt(TodoServiceImpl.getCurrentDateAndTime());
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.todo.service;
+
+import com.example.todo.config.ReadWriteRoutingDataSource;
+import com.example.todo.event.TodoChangeEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * Read-your-writes on top of the read replica. Remembers the to-do written in the last
+ * todo.datasource.replica.max-lag-ms, reads of those by id go to the primary instead of a replica
+ * that may not have them yet, and so does not put a stale to-do back into the todoById cache.
+ * A bulk delete by filter does not tell which to-do it removed, for that long every read by id goes to the primary.
+ * Does nothing when no replica is configured.
+ */
+
+
+@Component
+public class RecentWrites {
+
+    @Value("${todo.datasource.replica.url:}")
+    private String replicaUrl = "";
+
+    @Value("${todo.datasource.replica.max-lag-ms:1000}")
+    private long maxLagMs;
+
+    // Commit time by to-do id, System.nanoTime
+    private final Map<Long, Long> writtenAt = new ConcurrentHashMap<>();
+
+    private volatile long bulkWrittenAt;
+
+    private volatile boolean bulkWritten;
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoChange(TodoChangeEvent event) {
+        if (replicaUrl.isEmpty()) {
+            return;
+        }
+        if (event.getType() == TodoChangeEvent.Type.BULK_DELETED) {
+            bulkWrittenAt = System.nanoTime();
+            bulkWritten = true;
+        } else {
+            writtenAt.put(event.getTodoId(), System.nanoTime());
+        }
+    }
+
+    /**
+     * readYourWrites - Runs a read of one to-do on the primary if it was written within the replica lag.
+     *
+     * @param todoId - to-do the read is about
+     * @param read - the read
+     * @return - result of the read
+     */
+    public <T> T readYourWrites(long todoId, Supplier<T> read) {
+        return isRecent(todoId) ? ReadWriteRoutingDataSource.onPrimary(read) : read.get();
+    }
+
+    /**
+     * readYourWrites - Runs a read of many to-do on the primary if any of them was written within the replica lag.
+     *
+     * @param todoIds - to-do the read is about
+     * @param read - the read
+     * @return - result of the read
+     */
+    public <T> T readYourWrites(List<Long> todoIds, Supplier<T> read) {
+        for (Long todoId : todoIds) {
+            if (isRecent(todoId)) {
+                return ReadWriteRoutingDataSource.onPrimary(read);
+            }
+        }
+        return read.get();
+    }
+
+    @Scheduled(fixedDelayString = "${todo.datasource.replica.max-lag-ms:1000}")
+    public void expire() {
+        long now = System.nanoTime();
+        writtenAt.values().removeIf(time -> now - time > TimeUnit.MILLISECONDS.toNanos(maxLagMs));
+    }
+
+    private boolean isRecent(long todoId) {
+        if (replicaUrl.isEmpty()) {
+            return false;
+        }
+        long now = System.nanoTime();
+        long lag = TimeUnit.MILLISECONDS.toNanos(maxLagMs);
+        if (bulkWritten && now - bulkWrittenAt <= lag) {
+            return true;
+        }
+        Long time = writtenAt.get(todoId);
+        return time != null && now - time <= lag;
+    }
+}
@@ -0,0 +1,275 @@
+package com.example.todo.service;
+
+import com.example.todo.config.MetricsConfig;
+import com.example.todo.event.TodoChangeEvent;
+import com.example.todo.model.TodoFeedEventDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * Pushes every committed TodoChangeEvent to the subscribers of the server-sent events feed.
+ * Events are serialized once and the last RETAINED_EVENTS are kept so a client can resume
+ * from its Last-Event-ID. Every subscriber has a bounded buffer, one that falls behind
+ * is disconnected instead of slowing down writers or growing memory.
+ */
+
+
+@Component
+public class TodoChangeFeed {
+
+    private static final Logger logger = LoggerFactory.getLogger(TodoChangeFeed.class);
+
+    // Events kept for resuming, a client further behind gets a reset event and should refetch
+    static final int RETAINED_EVENTS = 1000;
+
+    // Not less than RETAINED_EVENTS, so any resumable backlog fits the buffer of a new subscriber
+    static final int SUBSCRIBER_BUFFER = RETAINED_EVENTS;
+
+    static final long HEARTBEAT_SECONDS = 15;
+
+    // EventSource clients reconnect on their own once the connection times out
+    static final long SUBSCRIPTION_TIMEOUT_MS = TimeUnit.MINUTES.toMillis(30);
+
+    static final String RESET_EVENT = "reset";
+
+    private static final FeedEntry HEARTBEAT = new FeedEntry(0, null, null);
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    // Ring buffer, entry with id n is at n % RETAINED_EVENTS, guarded by this
+    private final FeedEntry[] retained = new FeedEntry[RETAINED_EVENTS];
+
+    private long lastEventId;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    // Sends may block on a slow connection, each subscriber has at most one send task in flight
+    private final ExecutorService senderPool = Executors.newCachedThreadPool(daemonThreads("todo-feed-sender-"));
+
+    Executor senders = senderPool;
+
+    private final ScheduledExecutorService heartbeats = Executors.newSingleThreadScheduledExecutor(daemonThreads("todo-feed-heartbeat-"));
+
+    private Counter droppedSubscribers;
+
+    @PostConstruct
+    void init() {
+        meterRegistry.gaugeCollectionSize(MetricsConfig.FEED_SUBSCRIBERS, Tags.empty(), subscribers);
+        droppedSubscribers = meterRegistry.counter(MetricsConfig.FEED_DROPPED);
+        heartbeats.scheduleAtFixedRate(this::heartbeat, HEARTBEAT_SECONDS, HEARTBEAT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeats.shutdownNow();
+        subscribers.forEach(Subscriber::close);
+        senderPool.shutdownNow();
+    }
+
+    /**
+     * subscribe - Opens a feed connection.
+     *
+     * @param lastEventId - id of the last event the client has seen, null for only new events
+     * @return - emitter the events are pushed to
+     */
+    public SseEmitter subscribe(String lastEventId) {
+        Subscriber subscriber = new Subscriber(newEmitter());
+        subscriber.emitter.onCompletion(subscriber::close);
+        subscriber.emitter.onTimeout(subscriber::close);
+        subscriber.emitter.onError(error -> subscriber.close());
+
+        // Backlog and registration under the lock, no event can fall in between or arrive twice
+        synchronized (this) {
+            if (lastEventId != null) {
+                replay(subscriber, lastEventId);
+            }
+            subscribers.add(subscriber);
+        }
+        logger.info("Feed subscriber connected, last event id: {}, subscribers: {}", lastEventId, subscribers.size());
+        return subscriber.emitter;
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onTodoChange(TodoChangeEvent event) {
+        long id = lastEventId + 1;
+        TodoFeedEventDto feedEvent = new TodoFeedEventDto(id, event.getType(), event.getTodoId(), event.getTodo(),
+                event.getVersion(), event.getBulkDelete());
+        FeedEntry entry;
+        try {
+            entry = new FeedEntry(id, null, objectMapper.writeValueAsString(feedEvent));
+        } catch (JsonProcessingException ex) {
+            logger.error("Todo change event could not be serialized for the feed: {}", event, ex);
+            return;
+        }
+        lastEventId = id;
+        retained[(int) (id % RETAINED_EVENTS)] = entry;
+        // Offers never block, so publishing under the lock keeps every subscriber in id order
+        for (Subscriber subscriber : subscribers) {
+            subscriber.offer(entry);
+        }
+    }
+
+    int subscriberCount() {
+        return subscribers.size();
+    }
+
+    SseEmitter newEmitter() {
+        return new SseEmitter(SUBSCRIPTION_TIMEOUT_MS);
+    }
+
+    // Caller holds the lock
+    private void replay(Subscriber subscriber, String lastEventId) {
+        long resumeAfter;
+        try {
+            resumeAfter = Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException ex) {
+            resumeAfter = -1;
+        }
+        long oldestRetained = Math.max(1, this.lastEventId - RETAINED_EVENTS + 1);
+        if (resumeAfter < oldestRetained - 1 || resumeAfter > this.lastEventId) {
+            // Missed events are gone (or the id is from before a restart): the client has to refetch
+            subscriber.offer(new FeedEntry(this.lastEventId, RESET_EVENT, "{\"lastEventId\":" + this.lastEventId + "}"));
+            return;
+        }
+        for (long id = resumeAfter + 1; id <= this.lastEventId; id++) {
+            subscriber.offer(retained[(int) (id % RETAINED_EVENTS)]);
+        }
+    }
+
+    private void heartbeat() {
+        subscribers.forEach(subscriber -> subscriber.offer(HEARTBEAT));
+    }
+
+    private static ThreadFactory daemonThreads(String prefix) {
+        AtomicInteger count = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, prefix + count.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static final class FeedEntry {
+
+        private final long id;
+
+        // SSE event name, null for the default message event
+        private final String name;
+
+        private final String data;
+
+        FeedEntry(long id, String name, String data) {
+            this.id = id;
+            this.name = name;
+            this.data = data;
+        }
+    }
+
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+
+        private final BlockingQueue<FeedEntry> buffer = new ArrayBlockingQueue<>(SUBSCRIBER_BUFFER);
+
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private volatile boolean closed;
+
+        Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void offer(FeedEntry entry) {
+            if (closed) {
+                return;
+            }
+            if (!buffer.offer(entry)) {
+                // Drop policy: a subscriber that cannot keep up is disconnected, it resumes with its Last-Event-ID
+                logger.warn("Feed subscriber fell {} events behind, disconnecting", SUBSCRIBER_BUFFER);
+                droppedSubscribers.increment();
+                close();
+                return;
+            }
+            scheduleDrain();
+        }
+
+        private void scheduleDrain() {
+            if (draining.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            try {
+                FeedEntry entry;
+                while (!closed && (entry = buffer.poll()) != null) {
+                    send(entry);
+                }
+            } catch (IOException | IllegalStateException ex) {
+                logger.info("Feed subscriber disconnected: {}", ex.getMessage());
+                close();
+            } finally {
+                draining.set(false);
+            }
+            // An entry offered after the last poll but before the flag was cleared
+            if (!closed && !buffer.isEmpty()) {
+                scheduleDrain();
+            }
+        }
+
+        private void send(FeedEntry entry) throws IOException {
+            if (entry == HEARTBEAT) {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+                return;
+            }
+            SseEmitter.SseEventBuilder event = SseEmitter.event().id(Long.toString(entry.id));
+            if (entry.name != null) {
+                event.name(entry.name);
+            }
+            emitter.send(event.data(entry.data, MediaType.APPLICATION_JSON));
+        }
+
+        void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            subscribers.remove(this);
+            buffer.clear();
+            // Completing waits for a send in progress, never do that on the publishing thread
+            senders.execute(emitter::complete);
+        }
+    }
+}
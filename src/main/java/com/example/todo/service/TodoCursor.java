@@ -0,0 +1,75 @@
+package com.example.todo.service;
+
+import com.example.todo.exceptions.InvalidTodoRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * Encodes and decodes the opaque keyset cursor handed out to clients.
+ * The cursor is the id of the last to-do of the previous page, for the agenda
+ * it is the due date and id of that to-do.
+ */
+
+final class TodoCursor {
+
+    private static final String PREFIX = "id:";
+
+    private static final String DUE_PREFIX = "due:";
+
+    private TodoCursor() {
+    }
+
+    static String encode(long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((PREFIX + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static long decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (!decoded.startsWith(PREFIX)) {
+                throw new IllegalArgumentException(decoded);
+            }
+            return Long.parseLong(decoded.substring(PREFIX.length()));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidTodoRequestException("Invalid cursor: " + cursor);
+        }
+    }
+
+    static String encodeDue(LocalDate dueDate, long lastId) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((DUE_PREFIX + dueDate + ":" + lastId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    static DuePosition decodeDue(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.lastIndexOf(':');
+            if (!decoded.startsWith(DUE_PREFIX) || separator < DUE_PREFIX.length()) {
+                throw new IllegalArgumentException(decoded);
+            }
+            return new DuePosition(LocalDate.parse(decoded.substring(DUE_PREFIX.length(), separator)),
+                    Long.parseLong(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException ex) {
+            throw new InvalidTodoRequestException("Invalid cursor: " + cursor);
+        }
+    }
+
+    // Due date and id of the last to-do of an agenda page
+    static final class DuePosition {
+
+        final LocalDate dueDate;
+
+        final long id;
+
+        DuePosition(LocalDate dueDate, long id) {
+            this.dueDate = dueDate;
+            this.id = id;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.todo.service;
+
+import com.example.todo.model.TodoImportFormat;
+import com.example.todo.model.TodoImportReportDto;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * The TodoImportService interface defines the contract for importing
+ * to-do items from an uploaded file
+ */
+
+
+public interface TodoImportService {
+    TodoImportReportDto importTodos(InputStream inputStream, TodoImportFormat format) throws IOException;
+}
@@ -0,0 +1,175 @@
+package com.example.todo.service;
+
+import com.example.todo.model.TodoDto;
+import com.example.todo.model.TodoImportChunkDto;
+import com.example.todo.model.TodoImportFormat;
+import com.example.todo.model.TodoImportRejectedRowDto;
+import com.example.todo.model.TodoImportReportDto;
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * The TodoImportServiceImpl class parses an import file row by row, validates every row
+ * like a single create and hands valid rows to TodoService.createTodos one chunk at a time
+ */
+
+
+@Service
+public class TodoImportServiceImpl implements TodoImportService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TodoImportServiceImpl.class);
+
+    // Rows committed per transaction, not above TodoServiceImpl.BULK_CHUNK_SIZE so a chunk is one transaction
+    static final int IMPORT_CHUNK_SIZE = 1000;
+
+    private final CsvMapper csvMapper = CsvMapper.builder()
+            .findAndAddModules()
+            .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+            .build();
+
+    @Autowired
+    private TodoService todoService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private Validator validator;
+
+    /**
+     * importTodos - Imports to-do items from a NDJSON or CSV stream without holding the whole file.
+     *
+     * @param inputStream - uploaded file
+     * @param format - format of the file
+     * @return - imported and rejected counts, per chunk progress and the rejected rows
+     */
+    @Override
+    public TodoImportReportDto importTodos(InputStream inputStream, TodoImportFormat format) throws IOException {
+        logger.info("Importing Todos from {}", format);
+        ImportRun importRun = new ImportRun();
+        if (format == TodoImportFormat.NDJSON) {
+            importNdjson(inputStream, importRun);
+        } else {
+            importCsv(inputStream, importRun);
+        }
+        importRun.commitChunk();
+        logger.info("Import finished, imported: {} rejected: {}", importRun.report.getImported(), importRun.report.getRejected());
+        return importRun.report;
+    }
+
+    /**
+     * importNdjson - Parses one JSON object per line, a malformed line only rejects that line.
+     */
+    private void importNdjson(InputStream inputStream, ImportRun importRun) throws IOException {
+        ObjectReader todoReader = objectMapper.readerFor(TodoDto.class);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        long lineNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                importRun.accept(lineNumber, todoReader.readValue(line));
+            } catch (JacksonException ex) {
+                importRun.reject(lineNumber, "Malformed JSON: " + ex.getOriginalMessage());
+            }
+        }
+    }
+
+    /**
+     * importCsv - Parses CSV records, the header row names the TodoDto properties of each column.
+     */
+    private void importCsv(InputStream inputStream, ImportRun importRun) throws IOException {
+        CsvSchema schema = CsvSchema.emptySchema().withHeader();
+        try (MappingIterator<TodoDto> rows = csvMapper.readerFor(TodoDto.class).with(schema).readValues(inputStream)) {
+            long failedAtOffset = -1;
+            while (true) {
+                long lineNumber = rows.getCurrentLocation().getLineNr();
+                try {
+                    if (!rows.hasNextValue()) {
+                        break;
+                    }
+                    lineNumber = rows.getCurrentLocation().getLineNr();
+                    importRun.accept(lineNumber, rows.nextValue());
+                } catch (JacksonException ex) {
+                    importRun.reject(lineNumber, "Malformed CSV record: " + ex.getOriginalMessage());
+                    long offset = rows.getCurrentLocation().getCharOffset();
+                    if (offset == failedAtOffset) {
+                        // The parser cannot move past this error, the rest of the file is unreadable
+                        break;
+                    }
+                    failedAtOffset = offset;
+                }
+            }
+        }
+    }
+
+    /**
+     * State of one import: the pending chunk and the report being built.
+     */
+    private class ImportRun {
+
+        private final TodoImportReportDto report = new TodoImportReportDto();
+
+        private List<TodoDto> chunk = new ArrayList<>(IMPORT_CHUNK_SIZE);
+
+        void accept(long lineNumber, TodoDto todo) {
+            Set<ConstraintViolation<TodoDto>> violations = validator.validate(todo);
+            if (!violations.isEmpty()) {
+                reject(lineNumber, violations.stream()
+                        .map(ConstraintViolation::getMessage)
+                        .sorted()
+                        .collect(Collectors.joining(", ")));
+                return;
+            }
+            chunk.add(todo);
+            if (chunk.size() == IMPORT_CHUNK_SIZE) {
+                commitChunk();
+            }
+        }
+
+        void reject(long lineNumber, String message) {
+            report.setRejected(report.getRejected() + 1);
+            if (report.getRejectedRows().size() < TodoImportReportDto.MAX_REPORTED_REJECTIONS) {
+                report.getRejectedRows().add(new TodoImportRejectedRowDto(lineNumber, message));
+            }
+        }
+
+        void commitChunk() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            todoService.createTodos(chunk);
+            report.setImported(report.getImported() + chunk.size());
+            TodoImportChunkDto progress = new TodoImportChunkDto(report.getChunks().size() + 1, chunk.size(), report.getImported());
+            report.getChunks().add(progress);
+            logger.info("Import chunk {} committed, Todos imported so far: {}", progress.getChunk(), progress.getTotalImported());
+            chunk = new ArrayList<>(IMPORT_CHUNK_SIZE);
+        }
+    }
+}
@@ -0,0 +1,317 @@
+package com.example.todo.service;
+
+import com.example.todo.event.TodoChangeEvent;
+import com.example.todo.model.TodoBulkDeleteDto;
+import com.example.todo.model.TodoDto;
+import com.example.todo.model.TodoPageDto;
+import com.example.todo.model.TodoPriority;
+import com.example.todo.model.TodoStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.regex.Pattern;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * In memory inverted index over title and description of every to-do. It is rebuilt from
+ * TodoService before the server starts and kept up to date from TodoChangeEvents.
+ */
+
+
+@Component
+public class TodoSearchIndex implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(TodoSearchIndex.class);
+
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    // A word in the title counts three times as much as one in the description
+    static final int TITLE_WEIGHT = 3;
+
+    static final int DESCRIPTION_WEIGHT = 1;
+
+    // A query term equal to an indexed term scores double a term it is only a prefix of
+    static final int EXACT_MATCH_BOOST = 2;
+
+    // To-do read per keyset page while rebuilding, the largest page TodoService hands out, each page is indexed on the common pool
+    static final int REBUILD_BATCH_SIZE = TodoServiceImpl.MAX_PAGE_SIZE;
+
+    @Autowired
+    private TodoService todoService;
+
+    // term -> (to-do id -> weight of the term in that to-do), sorted so all terms with a prefix are one sub map
+    private final ConcurrentSkipListMap<String, Map<Long, Integer>> postings = new ConcurrentSkipListMap<>();
+
+    // to-do id -> indexed fields, updates of one to-do are serialised by compute on its id
+    private final ConcurrentHashMap<Long, Document> documents = new ConcurrentHashMap<>();
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    /**
+     * rebuild - Re-indexes every to-do. Pages are read one after the other through TodoService,
+     * so the memory profile is read from its own store, and tokenised in parallel while the next page is read.
+     *
+     * @return - number of indexed to-do
+     */
+    public int rebuild() {
+        long start = System.nanoTime();
+        documents.clear();
+        postings.clear();
+
+        List<CompletableFuture<Void>> batches = new ArrayList<>();
+        // A cursor before every id, the first page of an empty store is then empty instead of not found
+        String cursor = TodoCursor.encode(Long.MIN_VALUE);
+        do {
+            TodoPageDto page = todoService.getAllTodo(cursor, REBUILD_BATCH_SIZE);
+            List<TodoDto> batch = page.getTodos();
+            if (!batch.isEmpty()) {
+                batches.add(CompletableFuture.runAsync(() -> batch.forEach(this::index)));
+            }
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+        CompletableFuture.allOf(batches.toArray(new CompletableFuture[0])).join();
+
+        logger.info("Search index rebuilt with {} Todos and {} terms in {} ms",
+                documents.size(), postings.size(), (System.nanoTime() - start) / 1_000_000);
+        return documents.size();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoChange(TodoChangeEvent event) {
+        switch (event.getType()) {
+            case CREATED, UPDATED -> index(event.getTodo());
+            case PATCHED -> patch(event.getTodoId(), event.getTodo(), event.getVersion());
+            case DELETED -> remove(event.getTodoId());
+            case BULK_DELETED -> removeMatching(event.getBulkDelete());
+        }
+    }
+
+    /**
+     * index - Adds a to-do or replaces its older version.
+     *
+     * @param todo - to-do to index
+     */
+    public void index(TodoDto todo) {
+        long version = todo.getVersion() == null ? 0 : todo.getVersion();
+        documents.compute(todo.getId(), (id, current) -> {
+            // A late event must not overwrite a newer version, e.g. one indexed by a concurrent rebuild
+            if (current != null && current.version > version) {
+                return current;
+            }
+            Document document = new Document(todo.getTitle(), todo.getDescription(), todo.getStatus(),
+                    todo.getPriority(), version);
+            replacePostings(id, current, document);
+            return document;
+        });
+    }
+
+    /**
+     * patch - Applies the non null fields of a partial update to an indexed to-do.
+     *
+     * @param todoId - to-do id
+     * @param changes - changed fields
+     * @param version - version after the patch
+     */
+    public void patch(long todoId, TodoDto changes, long version) {
+        documents.computeIfPresent(todoId, (id, current) -> {
+            if (current.version >= version) {
+                return current;
+            }
+            Document document = new Document(
+                    changes.getTitle() != null ? changes.getTitle() : current.title,
+                    changes.getDescription() != null ? changes.getDescription() : current.description,
+                    changes.getStatus() != null ? changes.getStatus() : current.status,
+                    changes.getPriority() != null ? changes.getPriority() : current.priority,
+                    version);
+            replacePostings(id, current, document);
+            return document;
+        });
+    }
+
+    public void remove(long todoId) {
+        documents.computeIfPresent(todoId, (id, current) -> {
+            replacePostings(id, current, null);
+            return null;
+        });
+    }
+
+    /**
+     * search - Ranks the to-do containing every query term, a query term also matches indexed terms it is a prefix of.
+     *
+     * @param query - words to search for
+     * @param offset - ranked hits to skip
+     * @param limit - maximum number of hits to return
+     * @return - ids of the hits in rank order and the total number of hits
+     */
+    public Hits search(String query, int offset, int limit) {
+        Map<Long, Integer> scores = null;
+        for (String term : new LinkedHashSet<>(tokenize(query))) {
+            Map<Long, Integer> termScores = new HashMap<>();
+            ConcurrentNavigableMap<String, Map<Long, Integer>> matches =
+                    postings.subMap(term, true, term + Character.MAX_VALUE, true);
+            for (Map.Entry<String, Map<Long, Integer>> match : matches.entrySet()) {
+                int boost = match.getKey().equals(term) ? EXACT_MATCH_BOOST : 1;
+                match.getValue().forEach((id, weight) -> termScores.merge(id, weight * boost, Integer::sum));
+            }
+            if (scores == null) {
+                scores = termScores;
+            } else {
+                scores.keySet().retainAll(termScores.keySet());
+                scores.replaceAll((id, score) -> score + termScores.get(id));
+            }
+            if (scores.isEmpty()) {
+                break;
+            }
+        }
+        if (scores == null || offset >= scores.size()) {
+            return new Hits(Collections.emptyList(), scores == null ? 0 : scores.size());
+        }
+
+        // Keep only the best offset + limit hits instead of sorting every hit
+        Comparator<Map.Entry<Long, Integer>> rank = Map.Entry.<Long, Integer>comparingByValue().reversed()
+                .thenComparing(Map.Entry.comparingByKey());
+        int keep = (int) Math.min((long) offset + limit, scores.size());
+        PriorityQueue<Map.Entry<Long, Integer>> best = new PriorityQueue<>(keep, rank.reversed());
+        for (Map.Entry<Long, Integer> score : scores.entrySet()) {
+            best.offer(score);
+            if (best.size() > keep) {
+                best.poll();
+            }
+        }
+        List<Map.Entry<Long, Integer>> ranked = new ArrayList<>(best);
+        ranked.sort(rank);
+
+        List<Long> ids = new ArrayList<>(Math.max(0, ranked.size() - offset));
+        for (int i = offset; i < ranked.size(); i++) {
+            ids.add(ranked.get(i).getKey());
+        }
+        return new Hits(ids, scores.size());
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    private void removeMatching(TodoBulkDeleteDto filter) {
+        documents.forEach((id, document) -> {
+            if ((filter.getStatus() == null || filter.getStatus() == document.status)
+                    && (filter.getPriority() == null || filter.getPriority() == document.priority)) {
+                remove(id);
+            }
+        });
+    }
+
+    private void replacePostings(long id, Document current, Document replacement) {
+        if (current != null) {
+            for (String term : current.terms.keySet()) {
+                if (replacement == null || !replacement.terms.containsKey(term)) {
+                    unpost(term, id);
+                }
+            }
+        }
+        if (replacement != null) {
+            replacement.terms.forEach((term, weight) -> post(term, id, weight));
+        }
+    }
+
+    private void post(String term, long id, int weight) {
+        Map<Long, Integer> ids;
+        do {
+            ids = postings.computeIfAbsent(term, t -> new ConcurrentHashMap<>());
+            ids.put(id, weight);
+            // Retry if the map was dropped as empty by unpost between the lookup and the put
+        } while (postings.get(term) != ids);
+    }
+
+    private void unpost(String term, long id) {
+        Map<Long, Integer> ids = postings.get(term);
+        if (ids == null) {
+            return;
+        }
+        ids.remove(id);
+        if (ids.isEmpty() && postings.remove(term, ids) && !ids.isEmpty()) {
+            // A concurrent post went into the map just before it was dropped, put its entries back
+            ids.forEach((otherId, weight) -> post(term, otherId, weight));
+        }
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    public static final class Hits {
+
+        private final List<Long> ids;
+
+        private final long total;
+
+        Hits(List<Long> ids, long total) {
+            this.ids = ids;
+            this.total = total;
+        }
+
+        public List<Long> getIds() {
+            return ids;
+        }
+
+        public long getTotal() {
+            return total;
+        }
+    }
+
+    private static final class Document {
+
+        private final String title;
+
+        private final String description;
+
+        private final TodoStatus status;
+
+        private final TodoPriority priority;
+
+        private final long version;
+
+        // term -> weight of the term in this to-do
+        private final Map<String, Integer> terms = new HashMap<>();
+
+        Document(String title, String description, TodoStatus status, TodoPriority priority, long version) {
+            this.title = title;
+            this.description = description;
+            this.status = status;
+            this.priority = priority;
+            this.version = version;
+            tokenize(title).forEach(term -> terms.merge(term, TITLE_WEIGHT, Integer::sum));
+            tokenize(description).forEach(term -> terms.merge(term, DESCRIPTION_WEIGHT, Integer::sum));
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.example.todo.service;
+
+import com.example.todo.model.TodoSearchResultDto;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * The TodoSearchService interface defines the contract for searching
+ * to-do items by the words in their title and description
+ */
+
+
+public interface TodoSearchService {
+    TodoSearchResultDto searchTodos(String query, Integer page, Integer pageSize);
+}
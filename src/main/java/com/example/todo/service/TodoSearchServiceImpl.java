@@ -0,0 +1,70 @@
+package com.example.todo.service;
+
+import com.example.todo.exceptions.InvalidTodoRequestException;
+import com.example.todo.model.TodoDto;
+import com.example.todo.model.TodoSearchResultDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * The TodoSearchServiceImpl class ranks to-do with the in memory TodoSearchIndex and loads
+ * only the to-do of the requested page through the TodoService
+ */
+
+
+@Service
+public class TodoSearchServiceImpl implements TodoSearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(TodoSearchServiceImpl.class);
+
+    static final int DEFAULT_PAGE_SIZE = 20;
+
+    static final int MAX_PAGE_SIZE = 100;
+
+    @Autowired
+    private TodoSearchIndex todoSearchIndex;
+
+    @Autowired
+    private TodoService todoService;
+
+    /**
+     * searchTodos - Search to-do by words of title and description, best match first.
+     *
+     * @param query - words to search for, the last letters of a word may be left out
+     * @param page - zero based page number, null for the first page
+     * @param pageSize - requested page size, capped at MAX_PAGE_SIZE
+     * @return - one page of matching to-do and the total number of matches
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TodoSearchResultDto searchTodos(String query, Integer page, Integer pageSize) {
+        if (query == null || TodoSearchIndex.tokenize(query).isEmpty()) {
+            throw new InvalidTodoRequestException("Search query must contain at least one word");
+        }
+        int pageNumber = page == null ? 0 : page;
+        if (pageNumber < 0) {
+            throw new InvalidTodoRequestException("Page must not be negative");
+        }
+        int size = pageSize == null ? DEFAULT_PAGE_SIZE : pageSize;
+        if (size < 1) {
+            throw new InvalidTodoRequestException("Page size must be greater than 0");
+        }
+        size = Math.min(size, MAX_PAGE_SIZE);
+        logger.info("Searching Todos for: {} page: {} page size: {}", query, pageNumber, size);
+
+        int offset = (int) Math.min((long) pageNumber * size, Integer.MAX_VALUE);
+        TodoSearchIndex.Hits hits = todoSearchIndex.search(query, offset, size);
+
+        // One lookup for the page, in rank order; a to-do deleted meanwhile is left out
+        List<TodoDto> todos = todoService.getTodosByIds(hits.getIds());
+        logger.info("Todos found for: {} total: {}", query, hits.getTotal());
+        return new TodoSearchResultDto(todos, pageNumber, size, hits.getTotal());
+    }
+}
@@ -1,8 +1,16 @@
 package com.example.todo.service;
 
 import com.example.todo.entity.TodoEntity;
+import com.example.todo.model.TodoAgendaRange;
+import com.example.todo.model.TodoBulkDeleteDto;
 import com.example.todo.model.TodoDto;
+import com.example.todo.model.TodoPageDto;
+import com.example.todo.model.TodoPriority;
+import com.example.todo.model.TodoStatus;
+import com.example.todo.repository.TodoStatusPriorityCount;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 /*
@@ -16,13 +24,31 @@ import java.util.List;
 public interface TodoService {
     TodoDto createTodo(TodoDto todo);
 
-    List<TodoDto> getAllTodo();
+    List<TodoDto> createTodos(List<TodoDto> todos);
+
+    TodoPageDto getAllTodo(String cursor, Integer pageSize);
+
+    long exportTodos(OutputStream outputStream) throws IOException;
+
+    TodoPageDto getAgenda(TodoAgendaRange range, Integer days, String cursor, Integer pageSize);
 
     TodoDto getToDoById(Long todoId);
 
+    List<TodoDto> getTodosByIds(List<Long> todoIds);
+
+    long getTodoVersion(Long todoId);
+
     void deleteTodoById(Long todoId);
 
+    int deleteTodos(TodoBulkDeleteDto bulkDelete);
+
     TodoDto updateTodoById(Long todoId, TodoDto todo);
 
-    List<TodoDto> getTodoByPriority(String toDoPriority);
+    long patchTodoById(Long todoId, TodoDto changes);
+
+    List<TodoDto> getTodoByPriority(TodoPriority toDoPriority);
+
+    List<TodoDto> getTodoByPriorityAndStatus(TodoPriority toDoPriority, TodoStatus status);
+
+    List<TodoStatusPriorityCount> countTodosByStatusAndPriority();
 }
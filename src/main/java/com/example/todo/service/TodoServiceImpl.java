@@ -1,20 +1,55 @@
 package com.example.todo.service;
 
+import com.example.todo.config.CacheConfig;
+import com.example.todo.config.MetricsConfig;
+import com.example.todo.config.ReadWriteRoutingDataSource;
 import com.example.todo.entity.TodoEntity;
+import com.example.todo.event.TodoChangeEvent;
+import com.example.todo.exceptions.InvalidTodoRequestException;
 import com.example.todo.exceptions.TodoNotFoundException;
+import com.example.todo.exceptions.TodoPreconditionFailedException;
+import com.example.todo.exceptions.TodoVersionConflictException;
+import com.example.todo.mapper.TodoMapper;
+import com.example.todo.model.TodoAgendaRange;
+import com.example.todo.model.TodoBulkDeleteDto;
 import com.example.todo.model.TodoDto;
+import com.example.todo.model.TodoPageDto;
+import com.example.todo.model.TodoPriority;
+import com.example.todo.model.TodoStatus;
+import com.example.todo.repository.TodoIdStatusPriority;
 import com.example.todo.repository.TodoRepository;
+import com.example.todo.repository.TodoStatusPriorityCount;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Counted;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.beans.BeanUtils;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /*
  * Author: Sachin Hol
@@ -24,13 +59,53 @@ import java.util.stream.Collectors;
 
 
 @Service
+@Profile("!memory")
+@Timed(value = MetricsConfig.SERVICE_TIMER, histogram = true)
 public class TodoServiceImpl implements TodoService{
 
     private static final Logger logger = LoggerFactory.getLogger(TodoServiceImpl.class);
 
+    static final int DEFAULT_PAGE_SIZE = 50;
+
+    static final int MAX_PAGE_SIZE = 500;
+
+    // Days ahead covered by the upcoming agenda when none are requested, and at most
+    static final int DEFAULT_AGENDA_DAYS = 7;
+
+    static final int MAX_AGENDA_DAYS = 366;
+
+    // Lower bound of the overdue agenda, keeps both ends of the due date index scan bounded
+    static final LocalDate EARLIEST_DUE_DATE = LocalDate.of(1, 1, 1);
+
+    // Rows written by exportTodos between two flushes of the response
+    static final int EXPORT_FLUSH_INTERVAL = 1000;
+
+    // Ids per IN list of a bulk delete by ids
+    static final int DELETE_ID_BATCH_SIZE = 1000;
+
+    // Rows committed per transaction by createTodos, a multiple of hibernate.jdbc.batch_size
+    static final int BULK_CHUNK_SIZE = 1000;
+
     @Autowired
     private TodoRepository todoRepository;
 
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    // Change events are delivered to listeners after the transaction commits
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    // Reads by id of to-do just written go to the primary, not the read replica
+    @Autowired
+    private RecentWrites recentWrites;
+
     /**
      * createTodo - Creates a new to-do item.
      *
@@ -41,21 +116,10 @@ public class TodoServiceImpl implements TodoService{
     public TodoDto createTodo(TodoDto todo) {
         logger.info("Creating new Todo: {}", todo);
 
-        TodoEntity todoEntity =  TodoEntity.builder()
-                .title(todo.getTitle())
-                .description(todo.getDescription())
-                .status(todo.getStatus())
-                .priority(todo.getPriority())
-                .dueDate(todo.getDueDate())
-                .createdAt(todo.getCreatedAt())
-                .updatedAt(todo.getUpdatedAt())
-                .build();
-
-        TodoEntity savedTodoEntity = todoRepository.save(todoEntity);
+        TodoEntity savedTodoEntity = todoRepository.save(TodoMapper.toNewEntity(todo));
 
-        TodoDto savedtodoDto = new TodoDto();
-        savedtodoDto.setId(savedTodoEntity.getId());
-        BeanUtils.copyProperties(savedTodoEntity,savedtodoDto);
+        TodoDto savedtodoDto = TodoMapper.toDto(savedTodoEntity);
+        eventPublisher.publishEvent(TodoChangeEvent.created(savedtodoDto));
 
         logger.info("Todo created with ID: {}", savedtodoDto.getId());
 
@@ -63,28 +127,133 @@ public class TodoServiceImpl implements TodoService{
     }
 
     /**
-     * getAllTodo - Retrieves all to-do
+     * createTodos - Creates many to-do items, committing every BULK_CHUNK_SIZE rows.
      *
-     * @return - A list of To-do objects
+     * @param todos - The to-do objects to be created.
+     * @return - The created To-do objects, in request order.
      */
     @Override
-    public List<TodoDto> getAllTodo() {
-        logger.info("Fetching all Todos");
-        List<TodoEntity> todos = todoRepository.findAll();
+    public List<TodoDto> createTodos(List<TodoDto> todos) {
+        logger.info("Bulk creating {} Todos", todos.size());
+        List<TodoDto> createdTodos = new ArrayList<>(todos.size());
+
+        for (int from = 0; from < todos.size(); from += BULK_CHUNK_SIZE) {
+            List<TodoDto> chunk = todos.subList(from, Math.min(from + BULK_CHUNK_SIZE, todos.size()));
+            createdTodos.addAll(transactionTemplate.execute(status -> saveChunk(chunk)));
+            logger.info("Bulk create committed {} of {} Todos", createdTodos.size(), todos.size());
+        }
+        return createdTodos;
+    }
 
-        if(todos.isEmpty()){
+    /**
+     * getAllTodo - Retrieves one keyset page of to-do, ordered by id
+     *
+     * @param cursor - cursor returned with the previous page, null for the first page
+     * @param pageSize - requested page size, capped at MAX_PAGE_SIZE
+     * @return - A page of To-do objects with the cursor of the next page
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @Counted(value = MetricsConfig.SERVICE_FAILURES, recordFailuresOnly = true)
+    public TodoPageDto getAllTodo(String cursor, Integer pageSize) {
+        int size = resolvePageSize(pageSize);
+        long afterId = cursor == null ? Long.MIN_VALUE : TodoCursor.decode(cursor);
+        logger.info("Fetching Todos after ID: {} page size: {}", afterId, size);
+
+        // Fetch one extra row to know whether a next page exists without a count query
+        List<TodoDto> todos = todoRepository.findDtosAfterId(afterId, Limit.of(size + 1));
+
+        if(todos.isEmpty() && cursor == null){
             logger.error("No Todos found");
             throw new TodoNotFoundException("No Todo items found");
         }
-        List<TodoDto> todoDtoList = todos.stream()
-                .map(todo -> {
-                    TodoDto todoDto = new TodoDto();
-                    BeanUtils.copyProperties(todo, todoDto);
-                    return todoDto;
-                })
-                .collect(Collectors.toList());
+        boolean hasNext = todos.size() > size;
+        List<TodoDto> todoDtoList = hasNext ? todos.subList(0, size) : todos;
+        String nextCursor = hasNext ? TodoCursor.encode(todoDtoList.get(todoDtoList.size() - 1).getId()) : null;
         logger.info("Total Todos fetched: {}", todoDtoList.size());
-        return todoDtoList;
+        return new TodoPageDto(todoDtoList, todoDtoList.size(), nextCursor);
+    }
+
+    /**
+     * exportTodos - Streams every to-do as newline delimited JSON, ordered by id.
+     * Rows are scrolled from the database and detached once written, so memory use
+     * does not depend on the number of to-do.
+     *
+     * @param outputStream - stream the NDJSON is written to, it is flushed but not closed
+     * @return - number of exported to-do
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public long exportTodos(OutputStream outputStream) throws IOException {
+        logger.info("Exporting all Todos");
+        long exported = 0;
+        try (Stream<TodoEntity> todos = todoRepository.streamAllByOrderByIdAsc();
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(new SerializedString("\n"));
+
+            for (TodoEntity todoEntity : (Iterable<TodoEntity>) todos::iterator) {
+                generator.writeObject(TodoMapper.toDto(todoEntity));
+                entityManager.detach(todoEntity);
+                if (++exported % EXPORT_FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+            if (exported > 0) {
+                generator.writeRaw('\n');
+            }
+        }
+        logger.info("Total Todos exported: {}", exported);
+        return exported;
+    }
+
+    /**
+     * getAgenda - Retrieves one keyset page of to-do due in a range, ordered by due date and id.
+     *
+     * @param range - overdue (not done), due today, or upcoming from today
+     * @param days - days after today covered by upcoming, ignored by the other ranges
+     * @param cursor - cursor returned with the previous page, null for the first page
+     * @param pageSize - requested page size, capped at MAX_PAGE_SIZE
+     * @return - A page of To-do objects with the cursor of the next page
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public TodoPageDto getAgenda(TodoAgendaRange range, Integer days, String cursor, Integer pageSize) {
+        int size = resolvePageSize(pageSize);
+        LocalDate today = LocalDate.now();
+        LocalDate fromDueDate = range == TodoAgendaRange.OVERDUE ? EARLIEST_DUE_DATE : today;
+        LocalDate beforeDueDate = switch (range) {
+            case OVERDUE -> today;
+            case TODAY -> today.plusDays(1);
+            case UPCOMING -> today.plusDays(resolveAgendaDays(days) + 1L);
+        };
+
+        LocalDate afterDueDate = fromDueDate;
+        long afterId = Long.MIN_VALUE;
+        if (cursor != null) {
+            TodoCursor.DuePosition after = TodoCursor.decodeDue(cursor);
+            // A cursor handed out before midnight may point before the range, start the range over then
+            if (!after.dueDate.isBefore(fromDueDate)) {
+                afterDueDate = after.dueDate;
+                afterId = after.id;
+            }
+        }
+        logger.info("Fetching {} agenda due before {} after {}/{} page size: {}", range, beforeDueDate, afterDueDate, afterId, size);
+
+        // Fetch one extra row to know whether a next page exists without a count query
+        List<TodoEntity> todos = range == TodoAgendaRange.OVERDUE
+                ? todoRepository.findDueBetweenExcludingStatus(afterDueDate, afterId, beforeDueDate, TodoStatus.DONE, Limit.of(size + 1))
+                : todoRepository.findDueBetween(afterDueDate, afterId, beforeDueDate, Limit.of(size + 1));
+
+        boolean hasNext = todos.size() > size;
+        List<TodoDto> todoDtoList = TodoMapper.toDtoList(hasNext ? todos.subList(0, size) : todos);
+        String nextCursor = null;
+        if (hasNext) {
+            TodoDto last = todoDtoList.get(todoDtoList.size() - 1);
+            nextCursor = TodoCursor.encodeDue(last.getDueDate(), last.getId());
+        }
+        logger.info("Total agenda Todos fetched: {}", todoDtoList.size());
+        return new TodoPageDto(todoDtoList, todoDtoList.size(), nextCursor);
     }
 
     /**
@@ -94,52 +263,158 @@ public class TodoServiceImpl implements TodoService{
      * @return - Returns to-do object.
      */
     @Override
+    @Cacheable(cacheNames = CacheConfig.TODO_BY_ID_CACHE, key = "#id")
+    @Counted(value = MetricsConfig.SERVICE_FAILURES, recordFailuresOnly = true)
     public TodoDto getToDoById(Long id) {
         logger.info("Fetching Todo with ID: {}", id);
-        TodoEntity todoEntity =  todoRepository.findById(id)
+        TodoEntity todoEntity =  recentWrites.readYourWrites(id, () -> todoRepository.findById(id))
                 .orElseThrow(() -> {
                     logger.error("Todo with ID: {} not found", id);
                     return new TodoNotFoundException("Todo task not found with ID: " + id);
                 });
 
-        TodoDto todoDto = new TodoDto();
-        BeanUtils.copyProperties(todoEntity, todoDto); // Copy properties from the entity to the DTO
+        TodoDto todoDto = TodoMapper.toDto(todoEntity);
 
         logger.info("Todo fetched: {}", todoDto);
         return todoDto; // Return the DTO
     }
 
+    /**
+     * getTodosByIds - Get many To-Do objects with one IN query.
+     *
+     * @param todoIds - to-do ids.
+     * @return - the to-do found, in the order of the ids, missing ids are left out.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<TodoDto> getTodosByIds(List<Long> todoIds) {
+        Map<Long, TodoEntity> todosById = new HashMap<>();
+        for (TodoEntity todoEntity : recentWrites.readYourWrites(todoIds, () -> todoRepository.findAllById(todoIds))) {
+            todosById.put(todoEntity.getId(), todoEntity);
+        }
+        List<TodoDto> todos = new ArrayList<>(todoIds.size());
+        for (Long id : todoIds) {
+            TodoEntity todoEntity = todosById.get(id);
+            if (todoEntity != null) {
+                todos.add(TodoMapper.toDto(todoEntity));
+            }
+        }
+        return todos;
+    }
+
+    /**
+     * getTodoVersion - Get the current version of a to-do without loading the row.
+     *
+     * @param todoId - to-do id.
+     * @return - current version.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @Counted(value = MetricsConfig.SERVICE_FAILURES, recordFailuresOnly = true)
+    public long getTodoVersion(Long todoId) {
+        return recentWrites.readYourWrites(todoId, () -> todoRepository.findVersionById(todoId))
+                .orElseThrow(() -> {
+                    logger.error("Todo with ID: {} not found", todoId);
+                    return new TodoNotFoundException("Todo task not found with ID: " + todoId);
+                });
+    }
+
     /**
      * deleteTodoById - Delete To-Do object form id.
      *
      * @param todoId - to-do id.
      */
     @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TODO_BY_ID_CACHE, key = "#todoId")
+    @Counted(value = MetricsConfig.SERVICE_FAILURES, recordFailuresOnly = true)
     public void deleteTodoById(Long todoId) {
         logger.info("Deleting Todo with ID: {}", todoId);
-        boolean exists =  todoRepository.existsById(todoId);
-        if(!exists){
+        // Locked until the delete commits, the event carries the status and priority the delete removed
+        List<TodoIdStatusPriority> previous = todoRepository.findStatusPriorityByIdIn(List.of(todoId));
+        if(previous.isEmpty()){
             logger.error("Todo with ID: {} not found, deletion failed", todoId);
             throw new TodoNotFoundException("Todo task not found with ID: " + todoId);
         }
-        todoRepository.deleteById(todoId);
+        todoRepository.deleteTodoById(todoId);
+        eventPublisher.publishEvent(TodoChangeEvent.deleted(todoId, previous.get(0).getStatus(), previous.get(0).getPriority()));
         logger.info("Todo with ID: {} deleted", todoId);
     }
 
+    /**
+     * deleteTodos - Delete many To-Do objects, by id list or by status and/or priority,
+     * with set based DELETE statements in one transaction.
+     *
+     * @param bulkDelete - ids, or status and/or priority filter
+     * @return - number of deleted to-do
+     */
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TODO_BY_ID_CACHE, allEntries = true)
+    public int deleteTodos(TodoBulkDeleteDto bulkDelete) {
+        List<Long> ids = bulkDelete.getIds();
+        TodoStatus status = bulkDelete.getStatus();
+        TodoPriority priority = bulkDelete.getPriority();
+        int deleted;
+
+        if (ids != null && !ids.isEmpty()) {
+            if (status != null || priority != null) {
+                throw new InvalidTodoRequestException("Bulk delete takes either ids or a status/priority filter, not both");
+            }
+            logger.info("Bulk deleting {} Todos by ID", ids.size());
+            deleted = 0;
+            for (int from = 0; from < ids.size(); from += DELETE_ID_BATCH_SIZE) {
+                // Missing ids get no DELETED event, existing rows are locked until the delete commits
+                List<TodoIdStatusPriority> existing = todoRepository.findStatusPriorityByIdIn(
+                        ids.subList(from, Math.min(from + DELETE_ID_BATCH_SIZE, ids.size())));
+                if (!existing.isEmpty()) {
+                    deleted += todoRepository.deleteTodosByIdIn(existing.stream().map(TodoIdStatusPriority::getId).toList());
+                    existing.forEach(row -> eventPublisher.publishEvent(TodoChangeEvent.deleted(row.getId(), row.getStatus(), row.getPriority())));
+                }
+            }
+        } else if (status != null && priority != null) {
+            logger.info("Bulk deleting Todos with priority: {} and status: {}", priority, status);
+            deleted = todoRepository.deleteTodosByPriorityAndStatus(priority, status);
+        } else if (status != null) {
+            logger.info("Bulk deleting Todos with status: {}", status);
+            deleted = todoRepository.deleteTodosByStatus(status);
+        } else if (priority != null) {
+            logger.info("Bulk deleting Todos with priority: {}", priority);
+            deleted = todoRepository.deleteTodosByPriority(priority);
+        } else {
+            throw new InvalidTodoRequestException("Bulk delete needs ids or a status/priority filter");
+        }
+        if (ids == null || ids.isEmpty()) {
+            eventPublisher.publishEvent(TodoChangeEvent.bulkDeleted(bulkDelete, deleted));
+        }
+        logger.info("Total Todos deleted: {}", deleted);
+        return deleted;
+    }
+
     /**
      * updateTodoById - Update To-Do object form id.
      *
      * @param todoId - to-do id.
-     * @param todoDetails - to-do object which needs to be updated
+     * @param todoDetails - to-do object which needs to be updated, a non null version must match the current one
      * @return - update to-do object.
      */
     @Override
+    @CacheEvict(cacheNames = CacheConfig.TODO_BY_ID_CACHE, key = "#todoId")
+    @Counted(value = MetricsConfig.SERVICE_FAILURES, recordFailuresOnly = true)
     public TodoDto updateTodoById(Long todoId, TodoDto todoDetails) {
         logger.info("Updating Todo with ID: {}", todoId);
-        Optional<TodoEntity> existingTodoOptional = todoRepository.findById(todoId);
+        // Read from the primary, a lagging replica would fail the version check of the save
+        Optional<TodoEntity> existingTodoOptional = ReadWriteRoutingDataSource.onPrimary(() -> todoRepository.findById(todoId));
 
         if (existingTodoOptional.isPresent()) {
             TodoEntity existingTodo = existingTodoOptional.get();
+            TodoStatus previousStatus = existingTodo.getStatus();
+            TodoPriority previousPriority = existingTodo.getPriority();
+
+            if (todoDetails.getVersion() != null && todoDetails.getVersion() != existingTodo.getVersion()) {
+                logger.error("Todo with ID: {} is at version {}, update expected version {}", todoId, existingTodo.getVersion(), todoDetails.getVersion());
+                throw new TodoPreconditionFailedException("Todo task with ID: " + todoId + " has been modified, current version: " + existingTodo.getVersion());
+            }
 
             // Updated fields only if the value is present
             existingTodo.setTitle(todoDetails.getTitle() != null ? todoDetails.getTitle() : existingTodo.getTitle());
@@ -151,8 +426,8 @@ public class TodoServiceImpl implements TodoService{
             existingTodo.setUpdatedAt(getCurrentDateAndTime());
 
             TodoEntity updatedTodo = todoRepository.save(existingTodo);
-            TodoDto updatedTodoDto = new TodoDto();
-            BeanUtils.copyProperties(updatedTodo,updatedTodoDto);
+            TodoDto updatedTodoDto = TodoMapper.toDto(updatedTodo);
+            eventPublisher.publishEvent(TodoChangeEvent.updated(updatedTodoDto, previousStatus, previousPriority));
             logger.info("Todo with ID: {} updated successfully", todoId);
             return updatedTodoDto;
         } else {
@@ -161,35 +436,155 @@ public class TodoServiceImpl implements TodoService{
         }
     }
 
+    /**
+     * patchTodoById - Partially update a to-do with a single UPDATE ... WHERE id = ? AND version = ?
+     *
+     * @param todoId - to-do id.
+     * @param changes - non null fields are applied, version is the version the client has seen
+     * @return - new version of the to-do.
+     */
+    @Override
+    @Transactional
+    @CacheEvict(cacheNames = CacheConfig.TODO_BY_ID_CACHE, key = "#todoId")
+    @Counted(value = MetricsConfig.SERVICE_FAILURES, recordFailuresOnly = true)
+    public long patchTodoById(Long todoId, TodoDto changes) {
+        logger.info("Patching Todo with ID: {}", todoId);
+        if (changes.getVersion() == null) {
+            throw new InvalidTodoRequestException("Version is required to patch Todo task with ID: " + todoId);
+        }
+        // Status and priority are read, and locked, only for a patch changing either, the event then carries the replaced values
+        TodoIdStatusPriority previous = null;
+        if (changes.getStatus() != null || changes.getPriority() != null) {
+            List<TodoIdStatusPriority> rows = todoRepository.findStatusPriorityByIdIn(List.of(todoId));
+            previous = rows.isEmpty() ? null : rows.get(0);
+        }
+        int updated = todoRepository.patchTodo(todoId, changes.getVersion(), changes, getCurrentDateAndTime());
+        if (updated == 0) {
+            // Failure path only: tell a missing to-do apart from a concurrent modification
+            if (!todoRepository.existsById(todoId)) {
+                logger.error("Todo with ID: {} not found for patch", todoId);
+                throw new TodoNotFoundException("Todo task not found with ID: " + todoId);
+            }
+            logger.error("Todo with ID: {} is no longer at version {}", todoId, changes.getVersion());
+            throw new TodoVersionConflictException("Todo task with ID: " + todoId + " is no longer at version " + changes.getVersion());
+        }
+        long newVersion = changes.getVersion() + 1;
+        eventPublisher.publishEvent(TodoChangeEvent.patched(todoId, changes, newVersion,
+                previous == null ? null : previous.getStatus(), previous == null ? null : previous.getPriority()));
+        logger.info("Todo with ID: {} patched successfully", todoId);
+        return newVersion;
+    }
+
     /**
      * getTodoByPriority - get To-Do object by priority.
      *
-     * @param toDoPriority - Priority - High, Medium
+     * @param toDoPriority - Priority - High, Medium, Low
      * @return - get to-do object.
      */
     @Override
-    public List<TodoDto> getTodoByPriority(String toDoPriority) {
+    @Transactional(readOnly = true)
+    @Counted(value = MetricsConfig.SERVICE_FAILURES, recordFailuresOnly = true)
+    public List<TodoDto> getTodoByPriority(TodoPriority toDoPriority) {
         logger.info("Fetching Todos by priority: {}", toDoPriority);
-        List<TodoEntity> todoListByPriority = todoRepository.findByPriority(toDoPriority);
-        if(todoListByPriority.isEmpty()){
+        List<TodoDto> todoDtoPriorityList = todoRepository.findDtosByPriority(toDoPriority);
+        if(todoDtoPriorityList.isEmpty()){
             logger.error("No Todos found with priority: {}", toDoPriority);
             throw new TodoNotFoundException("No Todos found with priority: " + toDoPriority);
         }
-        List<TodoDto> todoDtoPriorityList = todoListByPriority.stream().map(todoEntity -> {
-           TodoDto todoDto = new TodoDto();
-           BeanUtils.copyProperties(todoEntity,todoDto);
-           return todoDto;
-        }).collect(Collectors.toList());
         logger.info("Total Todos fetched with priority {}: {}", toDoPriority, todoDtoPriorityList.size());
         return todoDtoPriorityList;
     }
 
+    /**
+     * getTodoByPriorityAndStatus - get To-Do object by priority and status.
+     *
+     * @param toDoPriority - Priority - High, Medium, Low
+     * @param status - Status - Pending, In Progress, Done
+     * @return - get to-do object.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @Counted(value = MetricsConfig.SERVICE_FAILURES, recordFailuresOnly = true)
+    public List<TodoDto> getTodoByPriorityAndStatus(TodoPriority toDoPriority, TodoStatus status) {
+        logger.info("Fetching Todos by priority: {} and status: {}", toDoPriority, status);
+        List<TodoDto> todoDtoList = todoRepository.findDtosByPriorityAndStatus(toDoPriority, status);
+        if(todoDtoList.isEmpty()){
+            logger.error("No Todos found with priority: {} and status: {}", toDoPriority, status);
+            throw new TodoNotFoundException("No Todos found with priority: " + toDoPriority + " and status: " + status);
+        }
+        logger.info("Total Todos fetched with priority {} and status {}: {}", toDoPriority, status, todoDtoList.size());
+        return todoDtoList;
+    }
+
+    /**
+     * countTodosByStatusAndPriority - Count to-do by status and priority with one grouped query.
+     *
+     * @return - one row per status and priority pair with at least one to-do.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public List<TodoStatusPriorityCount> countTodosByStatusAndPriority() {
+        return todoRepository.countByStatusAndPriority();
+    }
+
+    /**
+     * saveChunk - Inserts one chunk as JDBC batches and empties the persistence context afterwards,
+     * so memory does not grow with the size of the whole bulk request.
+     *
+     * @param chunk - to-do objects of this chunk
+     * @return - created to-do objects
+     */
+    private List<TodoDto> saveChunk(List<TodoDto> chunk) {
+        List<TodoEntity> todoEntities = chunk.stream()
+                .map(TodoMapper::toNewEntity)
+                .collect(Collectors.toList());
+        List<TodoEntity> savedTodoEntities = todoRepository.saveAll(todoEntities);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<TodoDto> savedTodos = TodoMapper.toDtoList(savedTodoEntities);
+        savedTodos.forEach(todo -> eventPublisher.publishEvent(TodoChangeEvent.created(todo)));
+        return savedTodos;
+    }
+
+    /**
+     * resolvePageSize - Applies the default and the cap to a requested page size.
+     *
+     * @param pageSize - requested page size, may be null
+     * @return - page size to use
+     */
+    static int resolvePageSize(Integer pageSize) {
+        if (pageSize == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (pageSize < 1) {
+            throw new InvalidTodoRequestException("Page size must be greater than 0");
+        }
+        return Math.min(pageSize, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * resolveAgendaDays - Applies the default and the cap to the days of the upcoming agenda.
+     *
+     * @param days - requested days, may be null
+     * @return - days to use
+     */
+    static int resolveAgendaDays(Integer days) {
+        if (days == null) {
+            return DEFAULT_AGENDA_DAYS;
+        }
+        if (days < 0) {
+            throw new InvalidTodoRequestException("Days must not be negative");
+        }
+        return Math.min(days, MAX_AGENDA_DAYS);
+    }
+
     /**
      * getCurrentDateAndTime - Retrieves the current date and time.
      *
      * @return - The current date and time as a LocalDateTime object.
      */
-    private LocalDateTime getCurrentDateAndTime() {
+    static LocalDateTime getCurrentDateAndTime() {
         // Get the current date and time
         LocalDateTime currentDateTime = LocalDateTime.now();
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss");
@@ -0,0 +1,177 @@
+package com.example.todo.service;
+
+import com.example.todo.event.TodoChangeEvent;
+import com.example.todo.model.TodoBulkDeleteDto;
+import com.example.todo.model.TodoDto;
+import com.example.todo.model.TodoPriority;
+import com.example.todo.model.TodoStatsDto;
+import com.example.todo.model.TodoStatus;
+import com.example.todo.repository.TodoStatusPriorityCount;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * Counts of to-do by status and priority, kept in memory so reading them never touches the table.
+ * Counters are seeded from a grouped query at startup and adjusted on every TodoChangeEvent.
+ * Updates, patches and deletes carry the status and priority they replaced, only a bulk delete by
+ * status or priority alone removes rows of unknown counts. It marks the counters dirty and they are
+ * recounted shortly after, all counters are also recounted periodically.
+ * A change applied while a recount runs may or may not be in the recount's query, so it marks the
+ * counters dirty as well and the next check recounts them again.
+ */
+
+
+@Component
+public class TodoStats implements SmartInitializingSingleton {
+
+    private static final Logger logger = LoggerFactory.getLogger(TodoStats.class);
+
+    private static final TodoStatus[] STATUSES = TodoStatus.values();
+
+    private static final TodoPriority[] PRIORITIES = TodoPriority.values();
+
+    @Autowired
+    private TodoService todoService;
+
+    // One striped counter per (status, priority) pair, index 0 of each dimension counts unset values
+    private final LongAdder[] counts = new LongAdder[(STATUSES.length + 1) * (PRIORITIES.length + 1)];
+
+    private final AtomicBoolean dirty = new AtomicBoolean();
+
+    // Incremented when a recount starts and when it ends, odd while one is running
+    private final AtomicLong reconciliations = new AtomicLong();
+
+    private volatile LocalDateTime reconciledAt;
+
+    public TodoStats() {
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = new LongAdder();
+        }
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        reconcile();
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTodoChange(TodoChangeEvent event) {
+        long reconciliation = reconciliations.get();
+        apply(event);
+        if ((reconciliation & 1) != 0 || reconciliations.get() != reconciliation) {
+            dirty.set(true);
+        }
+    }
+
+    private void apply(TodoChangeEvent event) {
+        TodoDto todo = event.getTodo();
+        switch (event.getType()) {
+            case CREATED -> counter(todo.getStatus(), todo.getPriority()).increment();
+            case UPDATED -> {
+                counter(event.getPreviousStatus(), event.getPreviousPriority()).decrement();
+                counter(todo.getStatus(), todo.getPriority()).increment();
+            }
+            case PATCHED -> {
+                if (todo.getStatus() != null || todo.getPriority() != null) {
+                    counter(event.getPreviousStatus(), event.getPreviousPriority()).decrement();
+                    counter(todo.getStatus() != null ? todo.getStatus() : event.getPreviousStatus(),
+                            todo.getPriority() != null ? todo.getPriority() : event.getPreviousPriority()).increment();
+                }
+            }
+            case DELETED -> counter(event.getPreviousStatus(), event.getPreviousPriority()).decrement();
+            case BULK_DELETED -> {
+                TodoBulkDeleteDto filter = event.getBulkDelete();
+                if (filter.getStatus() != null && filter.getPriority() != null) {
+                    counter(filter.getStatus(), filter.getPriority()).add(-event.getDeletedCount());
+                } else {
+                    dirty.set(true);
+                }
+            }
+        }
+    }
+
+    /**
+     * getStats - Current counts, summed from the counters without a query.
+     *
+     * @return - total and counts by status and by priority
+     */
+    public TodoStatsDto getStats() {
+        long total = 0;
+        Map<TodoStatus, Long> byStatus = new EnumMap<>(TodoStatus.class);
+        Map<TodoPriority, Long> byPriority = new EnumMap<>(TodoPriority.class);
+        for (TodoStatus status : STATUSES) {
+            byStatus.put(status, 0L);
+        }
+        for (TodoPriority priority : PRIORITIES) {
+            byPriority.put(priority, 0L);
+        }
+        for (int s = 0; s <= STATUSES.length; s++) {
+            for (int p = 0; p <= PRIORITIES.length; p++) {
+                long count = counts[s * (PRIORITIES.length + 1) + p].sum();
+                total += count;
+                if (s > 0) {
+                    byStatus.merge(STATUSES[s - 1], count, Long::sum);
+                }
+                if (p > 0) {
+                    byPriority.merge(PRIORITIES[p - 1], count, Long::sum);
+                }
+            }
+        }
+        return new TodoStatsDto(total, byStatus, byPriority, reconciledAt);
+    }
+
+    @Scheduled(fixedDelayString = "${todo.stats.dirty-check-ms:1000}")
+    public void reconcileIfDirty() {
+        if (dirty.get()) {
+            reconcile();
+        }
+    }
+
+    /**
+     * reconcile - Recounts all counters with one grouped query over the (priority, status) index.
+     */
+    @Scheduled(fixedDelayString = "${todo.stats.reconcile-interval-ms:300000}",
+            initialDelayString = "${todo.stats.reconcile-interval-ms:300000}")
+    public synchronized void reconcile() {
+        // Cleared before the recount starts, changes applied from then on mark the counters dirty again
+        dirty.set(false);
+        reconciliations.incrementAndGet();
+        long[] actual = new long[counts.length];
+        for (TodoStatusPriorityCount row : todoService.countTodosByStatusAndPriority()) {
+            actual[index(row.getStatus(), row.getPriority())] += row.getCount();
+        }
+        long drift = 0;
+        for (int i = 0; i < counts.length; i++) {
+            long difference = actual[i] - counts[i].sum();
+            counts[i].add(difference);
+            drift += Math.abs(difference);
+        }
+        reconciledAt = LocalDateTime.now();
+        reconciliations.incrementAndGet();
+        logger.info("Todo stats reconciled, counters corrected by {}", drift);
+    }
+
+    private LongAdder counter(TodoStatus status, TodoPriority priority) {
+        return counts[index(status, priority)];
+    }
+
+    private static int index(TodoStatus status, TodoPriority priority) {
+        int s = status == null ? 0 : status.ordinal() + 1;
+        int p = priority == null ? 0 : priority.ordinal() + 1;
+        return s * (PRIORITIES.length + 1) + p;
+    }
+}
@@ -0,0 +1,353 @@
+package com.example.todo.service;
+
+import com.example.todo.config.CacheConfig;
+import com.example.todo.config.MetricsConfig;
+import com.example.todo.exceptions.TodoNotFoundException;
+import com.example.todo.model.TodoAgendaRange;
+import com.example.todo.model.TodoBulkDeleteDto;
+import com.example.todo.model.TodoDto;
+import com.example.todo.model.TodoPageDto;
+import com.example.todo.model.TodoPriority;
+import com.example.todo.model.TodoStatus;
+import com.example.todo.repository.TodoStatusPriorityCount;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * Write-behind TodoService, enabled with todo.write-behind.enabled=true.
+ * Unconditional updates are acknowledged from memory and coalesced per id, the merged changes are
+ * written by TodoServiceImpl in batched transactions every todo.write-behind.flush-interval-ms,
+ * as soon as todo.write-behind.max-pending ids are waiting, and on shutdown.
+ * A failed batch is split until the failing updates are isolated, each of those is retried by later
+ * flushes and dropped after todo.write-behind.max-attempts failures.
+ * Acknowledged updates not yet flushed are lost if the process dies, at most one flush interval of them.
+ * Everything else is delegated, after flushing or dropping pending changes it would conflict with.
+ */
+
+
+@Service
+@Primary
+@Profile("!memory")
+@ConditionalOnProperty(name = "todo.write-behind.enabled", havingValue = "true")
+public class WriteBehindTodoService implements TodoService {
+
+    private static final Logger logger = LoggerFactory.getLogger(WriteBehindTodoService.class);
+
+    // Coalesced updates written per transaction by a flush
+    static final int FLUSH_BATCH_SIZE = 500;
+
+    @Autowired
+    @Qualifier("todoServiceImpl")
+    private TodoService delegate;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Value("${todo.write-behind.max-pending:1000}")
+    private int maxPending;
+
+    @Value("${todo.write-behind.max-attempts:5}")
+    private int maxAttempts;
+
+    // Pending changes by to-do id, replaced as a whole when an update is coalesced
+    private final Map<Long, PendingUpdate> pending = new ConcurrentHashMap<>();
+
+    private Counter coalescedUpdates;
+
+    private Counter droppedUpdates;
+
+    @PostConstruct
+    void init() {
+        meterRegistry.gaugeMapSize(MetricsConfig.WRITE_BEHIND_PENDING, Tags.empty(), pending);
+        coalescedUpdates = meterRegistry.counter(MetricsConfig.WRITE_BEHIND_COALESCED);
+        droppedUpdates = meterRegistry.counter(MetricsConfig.WRITE_BEHIND_DROPPED);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        flush();
+    }
+
+    @Override
+    public TodoDto createTodo(TodoDto todo) {
+        return delegate.createTodo(todo);
+    }
+
+    @Override
+    public List<TodoDto> createTodos(List<TodoDto> todos) {
+        return delegate.createTodos(todos);
+    }
+
+    @Override
+    public TodoPageDto getAllTodo(String cursor, Integer pageSize) {
+        return delegate.getAllTodo(cursor, pageSize);
+    }
+
+    @Override
+    public long exportTodos(OutputStream outputStream) throws IOException {
+        return delegate.exportTodos(outputStream);
+    }
+
+    @Override
+    public TodoPageDto getAgenda(TodoAgendaRange range, Integer days, String cursor, Integer pageSize) {
+        return delegate.getAgenda(range, days, cursor, pageSize);
+    }
+
+    // Reads by id see acknowledged updates, list and filter reads see them once flushed
+    @Override
+    public TodoDto getToDoById(Long todoId) {
+        PendingUpdate update = pending.get(todoId);
+        return update != null ? update.acknowledged() : delegate.getToDoById(todoId);
+    }
+
+    @Override
+    public List<TodoDto> getTodosByIds(List<Long> todoIds) {
+        List<TodoDto> todos = delegate.getTodosByIds(todoIds);
+        todos.replaceAll(todo -> {
+            PendingUpdate update = pending.get(todo.getId());
+            return update != null ? update.acknowledged() : todo;
+        });
+        return todos;
+    }
+
+    @Override
+    public long getTodoVersion(Long todoId) {
+        PendingUpdate update = pending.get(todoId);
+        return update != null ? update.acknowledged().getVersion() : delegate.getTodoVersion(todoId);
+    }
+
+    @Override
+    public void deleteTodoById(Long todoId) {
+        pending.remove(todoId);
+        delegate.deleteTodoById(todoId);
+    }
+
+    @Override
+    public int deleteTodos(TodoBulkDeleteDto bulkDelete) {
+        if (bulkDelete.getIds() != null && !bulkDelete.getIds().isEmpty()) {
+            bulkDelete.getIds().forEach(pending::remove);
+        } else {
+            // Pending changes may move to-do in or out of the status/priority filter
+            flush();
+        }
+        return delegate.deleteTodos(bulkDelete);
+    }
+
+    /**
+     * updateTodoById - Acknowledges an update from memory and queues it for the next flush.
+     * An update carrying a version is a conditional write, it flushes the to-do and is applied directly.
+     *
+     * @param todoId - to-do id.
+     * @param todoDetails - to-do object which needs to be updated
+     * @return - to-do as it will be once flushed, its version is the one the flush will write
+     */
+    @Override
+    public TodoDto updateTodoById(Long todoId, TodoDto todoDetails) {
+        if (todoDetails.getVersion() != null) {
+            flush(todoId);
+            return delegate.updateTodoById(todoId, todoDetails);
+        }
+        // Usually a cache hit, also rejects unknown ids before anything is acknowledged
+        TodoDto current = pending.containsKey(todoId) ? null : delegate.getToDoById(todoId);
+
+        PendingUpdate update = pending.compute(todoId, (id, existing) -> {
+            if (existing == null) {
+                return new PendingUpdate(current != null ? current : delegate.getToDoById(id), todoDetails);
+            }
+            coalescedUpdates.increment();
+            return existing.merge(todoDetails);
+        });
+        logger.debug("Todo with ID: {} update acknowledged, {} pending", todoId, pending.size());
+
+        if (pending.size() >= maxPending) {
+            flush();
+        }
+        return update.acknowledged();
+    }
+
+    @Override
+    public long patchTodoById(Long todoId, TodoDto changes) {
+        flush(todoId);
+        return delegate.patchTodoById(todoId, changes);
+    }
+
+    @Override
+    public List<TodoDto> getTodoByPriority(TodoPriority toDoPriority) {
+        return delegate.getTodoByPriority(toDoPriority);
+    }
+
+    @Override
+    public List<TodoDto> getTodoByPriorityAndStatus(TodoPriority toDoPriority, TodoStatus status) {
+        return delegate.getTodoByPriorityAndStatus(toDoPriority, status);
+    }
+
+    @Override
+    public List<TodoStatusPriorityCount> countTodosByStatusAndPriority() {
+        return delegate.countTodosByStatusAndPriority();
+    }
+
+    /**
+     * flush - Writes all pending updates, FLUSH_BATCH_SIZE per transaction.
+     * An update that fails is queued again under any update acknowledged since.
+     */
+    @Scheduled(fixedDelayString = "${todo.write-behind.flush-interval-ms:200}")
+    public synchronized void flush() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(pending.keySet());
+        int written = 0;
+        for (int from = 0; from < ids.size(); from += FLUSH_BATCH_SIZE) {
+            written += write(ids.subList(from, Math.min(from + FLUSH_BATCH_SIZE, ids.size())));
+        }
+        logger.info("Write-behind flushed {} Todos", written);
+    }
+
+    // Writes the pending update of one to-do ahead of a conditional write
+    private synchronized void flush(Long todoId) {
+        if (pending.containsKey(todoId)) {
+            write(List.of(todoId));
+        }
+    }
+
+    private int write(List<Long> ids) {
+        List<Map.Entry<Long, PendingUpdate>> batch = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            PendingUpdate update = pending.remove(id);
+            if (update != null) {
+                batch.add(Map.entry(id, update));
+            }
+        }
+        return batch.isEmpty() ? 0 : writeBatch(batch);
+    }
+
+    // One transaction for the batch, when it fails the halves are written separately so a single
+    // update that keeps failing does not roll back the others
+    private int writeBatch(List<Map.Entry<Long, PendingUpdate>> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> batch.forEach(entry -> {
+                try {
+                    delegate.updateTodoById(entry.getKey(), entry.getValue().changes);
+                } catch (TodoNotFoundException ex) {
+                    logger.warn("Todo with ID: {} was deleted before its pending update was written", entry.getKey());
+                }
+            }));
+            // The delegate evicts inside the transaction, a read racing the commit may have cached the old row since
+            Cache todoById = cacheManager.getCache(CacheConfig.TODO_BY_ID_CACHE);
+            if (todoById != null) {
+                batch.forEach(entry -> todoById.evict(entry.getKey()));
+            }
+            return batch.size();
+        } catch (RuntimeException ex) {
+            if (batch.size() > 1) {
+                int middle = batch.size() / 2;
+                return writeBatch(batch.subList(0, middle)) + writeBatch(batch.subList(middle, batch.size()));
+            }
+            retryOrDrop(batch.get(0).getKey(), batch.get(0).getValue(), ex);
+            return 0;
+        }
+    }
+
+    private void retryOrDrop(Long id, PendingUpdate update, RuntimeException ex) {
+        PendingUpdate failed = update.failedAttempt();
+        if (failed.attempts >= maxAttempts) {
+            droppedUpdates.increment();
+            logger.error("Write-behind update of Todo with ID: {} failed {} times, dropped", id, failed.attempts, ex);
+            return;
+        }
+        logger.warn("Write-behind update of Todo with ID: {} failed, attempt {} of {}: {}", id, failed.attempts, maxAttempts, ex.getMessage());
+        pending.merge(id, failed, (newer, retried) -> retried.merge(newer.changes));
+    }
+
+    // Changes to one to-do since its last flush, and the to-do as acknowledged to clients
+    private static final class PendingUpdate {
+
+        final TodoDto changes;
+
+        final TodoDto acknowledged;
+
+        // Failed flushes of these changes so far
+        final int attempts;
+
+        PendingUpdate(TodoDto current, TodoDto changes) {
+            this.changes = new TodoDto();
+            this.acknowledged = copy(current);
+            // The flush writes all coalesced changes as one update, so one version ahead
+            this.acknowledged.setVersion(current.getVersion() + 1);
+            this.attempts = 0;
+            apply(changes);
+        }
+
+        private PendingUpdate(TodoDto changes, TodoDto acknowledged, int attempts, TodoDto more) {
+            this.changes = copy(changes);
+            this.acknowledged = copy(acknowledged);
+            this.attempts = attempts;
+            if (more != null) {
+                apply(more);
+            }
+        }
+
+        PendingUpdate merge(TodoDto more) {
+            return new PendingUpdate(changes, acknowledged, attempts, more);
+        }
+
+        PendingUpdate failedAttempt() {
+            return new PendingUpdate(changes, acknowledged, attempts + 1, null);
+        }
+
+        TodoDto acknowledged() {
+            return copy(acknowledged);
+        }
+
+        private void apply(TodoDto more) {
+            setPresent(changes, more);
+            setPresent(acknowledged, more);
+            acknowledged.setUpdatedAt(LocalDateTime.now());
+        }
+
+        private static void setPresent(TodoDto target, TodoDto source) {
+            target.setTitle(source.getTitle() != null ? source.getTitle() : target.getTitle());
+            target.setDescription(source.getDescription() != null ? source.getDescription() : target.getDescription());
+            target.setStatus(source.getStatus() != null ? source.getStatus() : target.getStatus());
+            target.setPriority(source.getPriority() != null ? source.getPriority() : target.getPriority());
+            target.setDueDate(source.getDueDate() != null ? source.getDueDate() : target.getDueDate());
+        }
+
+        private static TodoDto copy(TodoDto todo) {
+            return new TodoDto(todo.getId(), todo.getTitle(), todo.getDescription(), todo.getStatus(), todo.getPriority(),
+                    todo.getDueDate(), todo.getCreatedAt(), todo.getUpdatedAt(), todo.getVersion());
+        }
+    }
+}
@@ -0,0 +1,27 @@
+-- Schema as it stood before status and priority were enum coded.
+-- A database created by ddl-auto update before Flyway, baselined at version 0, already has the table
+-- with no version column and ids drawn from todo_entity_seq, the statements below bring it to the same schema.
+create sequence if not exists todo_seq start with 1 increment by 50;
+
+create table if not exists todo_entity (
+    id bigint not null,
+    title varchar(255),
+    description varchar(255),
+    status varchar(255),
+    priority varchar(255),
+    due_date date,
+    created_at timestamp(6),
+    updated_at timestamp(6),
+    version bigint not null,
+    primary key (id)
+);
+
+alter table todo_entity add column if not exists version bigint default 0 not null;
+
+-- The pooled optimizer hands out the 49 ids below each value it reads, start above the existing rows
+alter sequence todo_seq restart with (select coalesce(max(id), 0) + 50 from todo_entity);
+drop sequence if exists todo_entity_seq;
+
+create index if not exists idx_todo_priority_status on todo_entity (priority, status);
+create index if not exists idx_todo_status on todo_entity (status);
+create index if not exists idx_todo_due_date on todo_entity (due_date);
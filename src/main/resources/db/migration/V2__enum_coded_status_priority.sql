@@ -0,0 +1,28 @@
+-- Status and priority move from free-form text to the smallint codes of TodoStatus and TodoPriority.
+-- Existing text is matched ignoring case and surrounding blanks, values that match nothing become null.
+alter table todo_entity add column status_code smallint;
+alter table todo_entity add column priority_code smallint;
+
+update todo_entity set
+    status_code = case lower(trim(status))
+        when 'pending' then 1
+        when 'in progress' then 2
+        when 'in_progress' then 2
+        when 'done' then 3
+        when 'completed' then 3
+    end,
+    priority_code = case lower(trim(priority))
+        when 'high' then 1
+        when 'medium' then 2
+        when 'low' then 3
+    end;
+
+drop index idx_todo_priority_status;
+drop index idx_todo_status;
+alter table todo_entity drop column status;
+alter table todo_entity drop column priority;
+alter table todo_entity alter column status_code rename to status;
+alter table todo_entity alter column priority_code rename to priority;
+
+create index idx_todo_priority_status on todo_entity (priority, status);
+create index idx_todo_status on todo_entity (status);
@@ -0,0 +1,93 @@
+package com.example.todo.benchmark;
+
+import com.example.todo.TodoApplication;
+import com.example.todo.model.TodoAgendaRange;
+import com.example.todo.model.TodoPageDto;
+import com.example.todo.model.TodoPriority;
+import com.example.todo.model.TodoStatus;
+import com.example.todo.service.TodoService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * Agenda pages through the TodoService bean on tables of growing size. Due dates are spread
+ * evenly over four years, the time per page should stay flat as the row count grows.
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TodoAgendaBenchmark {
+
+    private static final int DUE_DATE_SPREAD_DAYS = 4 * 365;
+
+    private static final int INSERT_BATCH_SIZE = 10_000;
+
+    @Param({"10000", "100000", "1000000"})
+    int rows;
+
+    ConfigurableApplicationContext context;
+
+    TodoService todoService;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(TodoApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--logging.level.com.example.todo=WARN",
+                        "--spring.datasource.url=jdbc:h2:mem:todoagenda" + rows + ";DB_CLOSE_ON_EXIT=FALSE");
+        todoService = context.getBean(TodoService.class);
+        seed(context.getBean(JdbcTemplate.class));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TodoPageDto agendaToday() {
+        return todoService.getAgenda(TodoAgendaRange.TODAY, null, null, null);
+    }
+
+    @Benchmark
+    public TodoPageDto agendaUpcomingWeek() {
+        return todoService.getAgenda(TodoAgendaRange.UPCOMING, 7, null, null);
+    }
+
+    @Benchmark
+    public TodoPageDto agendaOverdue() {
+        return todoService.getAgenda(TodoAgendaRange.OVERDUE, null, null, null);
+    }
+
+    // Plain JDBC batches, seeding millions of rows through JPA would take longer than the benchmark
+    private void seed(JdbcTemplate jdbcTemplate) {
+        LocalDate firstDueDate = LocalDate.now().minusDays(DUE_DATE_SPREAD_DAYS / 2);
+        List<Object[]> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+        for (int i = 1; i <= rows; i++) {
+            batch.add(new Object[]{i, "Task " + i, "Agenda benchmark to-do number " + i,
+                    TodoStatus.values()[i % TodoStatus.values().length].getCode(),
+                    TodoPriority.values()[i % TodoPriority.values().length].getCode(),
+                    Date.valueOf(firstDueDate.plusDays(i % DUE_DATE_SPREAD_DAYS))});
+            if (batch.size() == INSERT_BATCH_SIZE || i == rows) {
+                jdbcTemplate.batchUpdate("insert into todo_entity (id, title, description, status, priority, due_date, version)"
+                        + " values (?, ?, ?, ?, ?, ?, 0)", batch);
+                batch.clear();
+            }
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.todo.benchmark;
+
+import com.example.todo.entity.TodoEntity;
+import com.example.todo.model.TodoDto;
+import com.example.todo.model.TodoPriority;
+import com.example.todo.model.TodoStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * Test data shared by the JMH benchmarks
+ */
+
+final class TodoBenchmarkData {
+
+    private static final TodoPriority[] PRIORITIES = {TodoPriority.HIGH, TodoPriority.MEDIUM, TodoPriority.LOW};
+
+    private static final TodoStatus[] STATUSES = {TodoStatus.PENDING, TodoStatus.DONE};
+
+    private TodoBenchmarkData() {
+    }
+
+    static TodoDto todoDto(int i) {
+        LocalDateTime now = LocalDateTime.of(2024, 10, 27, 9, 15);
+        return new TodoDto(i, "Task " + i, "Benchmark to-do number " + i,
+                STATUSES[i % STATUSES.length], PRIORITIES[i % PRIORITIES.length],
+                LocalDate.of(2024, 10, 27).plusDays(i % 30), now, now, null);
+    }
+
+    static TodoEntity todoEntity(int i) {
+        TodoDto todoDto = todoDto(i);
+        return new TodoEntity(todoDto.getId(), todoDto.getTitle(), todoDto.getDescription(), todoDto.getStatus(),
+                todoDto.getPriority(), todoDto.getDueDate(), todoDto.getCreatedAt(), todoDto.getUpdatedAt(), 0L);
+    }
+
+    static List<TodoDto> todoDtos(int size) {
+        List<TodoDto> todoDtos = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            todoDtos.add(todoDto(i));
+        }
+        return todoDtos;
+    }
+
+    static List<TodoEntity> todoEntities(int size) {
+        List<TodoEntity> todoEntities = new ArrayList<>(size);
+        for (int i = 1; i <= size; i++) {
+            todoEntities.add(todoEntity(i));
+        }
+        return todoEntities;
+    }
+}
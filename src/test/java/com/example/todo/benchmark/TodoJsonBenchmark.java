@@ -0,0 +1,51 @@
+package com.example.todo.benchmark;
+
+import com.example.todo.model.TodoDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * Jackson serialization of List<TodoDto> with the same ObjectMapper defaults Spring MVC uses
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TodoJsonBenchmark {
+
+    @Param({"1", "1000", "100000"})
+    int rows;
+
+    List<TodoDto> todoDtos;
+
+    ObjectWriter listWriter;
+
+    @Setup
+    public void setUp() {
+        todoDtos = TodoBenchmarkData.todoDtos(rows);
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        listWriter = objectMapper.writerFor(objectMapper.getTypeFactory().constructCollectionType(List.class, TodoDto.class));
+    }
+
+    @Benchmark
+    public byte[] serializeToBytes() throws IOException {
+        return listWriter.writeValueAsBytes(todoDtos);
+    }
+
+    @Benchmark
+    public void serializeToStream() throws IOException {
+        listWriter.writeValue(OutputStream.nullOutputStream(), todoDtos);
+    }
+}
@@ -0,0 +1,86 @@
+package com.example.todo.benchmark;
+
+import com.example.todo.TodoApplication;
+import com.example.todo.service.TodoService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * Load test of GET /api/todos/getall with a fixed number of concurrent connections, run once with
+ * Tomcat's platform thread pool and once with the 'virtual' profile. Run on Java 21:
+ *   mvn -Pjava21 test-compile exec:java -Dexec.classpathScope=test \
+ *       -Dexec.mainClass=com.example.todo.benchmark.TodoLoadDriver [-Dload.concurrency=5000 -Dload.requests=100000]
+ */
+
+public final class TodoLoadDriver {
+
+    private static final int SEEDED_TODOS = 1000;
+
+    private TodoLoadDriver() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        int concurrency = Integer.getInteger("load.concurrency", 5000);
+        int requests = Integer.getInteger("load.requests", 100_000);
+
+        String platform = run(false, concurrency, requests);
+        String virtual = run(true, concurrency, requests);
+
+        System.out.println("Java " + Runtime.version() + ", " + concurrency + " concurrent connections, " + requests + " requests");
+        System.out.println("platform threads: " + platform);
+        System.out.println("virtual threads:  " + virtual);
+        System.exit(0);
+    }
+
+    private static String run(boolean virtualThreads, int concurrency, int requests) throws InterruptedException {
+        SpringApplicationBuilder application = new SpringApplicationBuilder(TodoApplication.class);
+        if (virtualThreads) {
+            application.profiles("virtual");
+        }
+
+        try (ConfigurableApplicationContext context = application.run("--server.port=0",
+                "--logging.level.com.example.todo=WARN",
+                "--spring.datasource.url=jdbc:h2:mem:todoload" + virtualThreads + ";DB_CLOSE_ON_EXIT=FALSE",
+                "--server.tomcat.max-connections=" + (concurrency * 2))) {
+            context.getBean(TodoService.class).createTodos(TodoBenchmarkData.todoDtos(SEEDED_TODOS));
+            int port = context.getEnvironment().getRequiredProperty("local.server.port", Integer.class);
+            HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/todos/getall?size=20"))
+                    .timeout(Duration.ofSeconds(60))
+                    .build();
+
+            HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+            Semaphore inFlight = new Semaphore(concurrency);
+            CountDownLatch done = new CountDownLatch(requests);
+            AtomicInteger errors = new AtomicInteger();
+
+            long start = System.nanoTime();
+            for (int i = 0; i < requests; i++) {
+                inFlight.acquire();
+                client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                        .whenComplete((response, failure) -> {
+                            if (failure != null || response.statusCode() != 200) {
+                                errors.incrementAndGet();
+                            }
+                            inFlight.release();
+                            done.countDown();
+                        });
+            }
+            done.await();
+            double seconds = (System.nanoTime() - start) / 1_000_000_000.0;
+
+            return String.format("%.0f req/s (%d requests in %.1f s, %d errors)",
+                    requests / seconds, requests, seconds, errors.get());
+        }
+    }
+}
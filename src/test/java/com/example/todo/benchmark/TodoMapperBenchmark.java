@@ -0,0 +1,52 @@
+package com.example.todo.benchmark;
+
+import com.example.todo.entity.TodoEntity;
+import com.example.todo.mapper.TodoMapper;
+import com.example.todo.model.TodoDto;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.BeanUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * Entity to DTO mapping of a list: TodoMapper against the reflective BeanUtils.copyProperties it replaced
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TodoMapperBenchmark {
+
+    @Param({"1", "1000", "100000"})
+    int rows;
+
+    List<TodoEntity> todoEntities;
+
+    @Setup
+    public void setUp() {
+        todoEntities = TodoBenchmarkData.todoEntities(rows);
+    }
+
+    @Benchmark
+    public List<TodoDto> todoMapper() {
+        return TodoMapper.toDtoList(todoEntities);
+    }
+
+    @Benchmark
+    public List<TodoDto> beanUtilsCopyProperties() {
+        List<TodoDto> todoDtos = new ArrayList<>(todoEntities.size());
+        for (TodoEntity todoEntity : todoEntities) {
+            TodoDto todoDto = new TodoDto();
+            BeanUtils.copyProperties(todoEntity, todoDto);
+            todoDtos.add(todoDto);
+        }
+        return todoDtos;
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.todo.benchmark;
+
+import com.example.todo.TodoApplication;
+import com.example.todo.model.TodoDto;
+import com.example.todo.model.TodoPageDto;
+import com.example.todo.service.TodoService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * create/get/update/list through the TodoService bean of a real application context on H2
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TodoServiceBenchmark {
+
+    private static final int SEEDED_TODOS = 10_000;
+
+    ConfigurableApplicationContext context;
+
+    TodoService todoService;
+
+    long firstId;
+
+    @Setup
+    public void setUp() {
+        // Info logging of every service call would dominate the numbers
+        context = new SpringApplicationBuilder(TodoApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--logging.level.com.example.todo=WARN",
+                        "--spring.datasource.url=jdbc:h2:mem:todobenchmark;DB_CLOSE_ON_EXIT=FALSE");
+        todoService = context.getBean(TodoService.class);
+        firstId = todoService.createTodos(TodoBenchmarkData.todoDtos(SEEDED_TODOS)).get(0).getId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public TodoDto createTodo() {
+        return todoService.createTodo(TodoBenchmarkData.todoDto(1));
+    }
+
+    @Benchmark
+    public TodoDto getToDoById() {
+        return todoService.getToDoById(randomId());
+    }
+
+    @Benchmark
+    public TodoDto updateTodoById() {
+        TodoDto update = new TodoDto();
+        update.setDescription("Updated by benchmark");
+        return todoService.updateTodoById(randomId(), update);
+    }
+
+    @Benchmark
+    public TodoPageDto getAllTodoFirstPage() {
+        return todoService.getAllTodo(null, null);
+    }
+
+    private long randomId() {
+        return firstId + ThreadLocalRandom.current().nextInt(SEEDED_TODOS);
+    }
+}
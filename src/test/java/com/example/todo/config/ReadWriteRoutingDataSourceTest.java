@@ -0,0 +1,110 @@
+package com.example.todo.config;
+
+import com.example.todo.model.TodoDto;
+import com.example.todo.model.TodoPriority;
+import com.example.todo.repository.TodoRepository;
+import com.example.todo.service.RecentWrites;
+import com.example.todo.service.TodoService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * Checks which pool serves a transaction, by the active connections of each pool while it runs
+ */
+
+@SpringBootTest(properties = "todo.datasource.replica.max-lag-ms=60000")
+class ReadWriteRoutingDataSourceTest {
+
+    @Autowired
+    @Qualifier("primaryDataSource")
+    HikariDataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    HikariDataSource replicaDataSource;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    TodoRepository todoRepository;
+
+    @Autowired
+    TodoService todoService;
+
+    @Autowired
+    RecentWrites recentWrites;
+
+    @Test
+    void testReadOnlyTransaction_UsesReplica() {
+        String pool = inTransaction(true, () -> {
+            todoRepository.count();
+            return activePool();
+        });
+
+        assertEquals("replica", pool);
+    }
+
+    @Test
+    void testReadWriteTransaction_UsesPrimary() {
+        String pool = inTransaction(false, () -> {
+            todoRepository.count();
+            return activePool();
+        });
+
+        assertEquals("primary", pool);
+    }
+
+    @Test
+    void testOnPrimary_OverridesReadOnly() {
+        String pool = inTransaction(true, () -> ReadWriteRoutingDataSource.onPrimary(() -> {
+            todoRepository.count();
+            return activePool();
+        }));
+
+        assertEquals("primary", pool);
+    }
+
+    @Test
+    void testReadYourWrites_RecentlyWrittenTodoReadFromPrimary() {
+        TodoDto todo = new TodoDto();
+        todo.setTitle("Drive to airport");
+        todo.setPriority(TodoPriority.HIGH);
+        long writtenId = todoService.createTodo(todo).getId();
+
+        String writtenPool = inTransaction(true, () -> recentWrites.readYourWrites(writtenId, () -> {
+            todoRepository.findVersionById(writtenId);
+            return activePool();
+        }));
+        String otherPool = inTransaction(true, () -> recentWrites.readYourWrites(writtenId + 1, () -> {
+            todoRepository.findVersionById(writtenId + 1);
+            return activePool();
+        }));
+
+        assertEquals("primary", writtenPool);
+        assertEquals("replica", otherPool);
+    }
+
+    private String inTransaction(boolean readOnly, Supplier<String> action) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(readOnly);
+        return transactionTemplate.execute(status -> action.get());
+    }
+
+    private String activePool() {
+        int primary = primaryDataSource.getHikariPoolMXBean().getActiveConnections();
+        int replica = replicaDataSource.getHikariPoolMXBean().getActiveConnections();
+        return primary == 1 && replica == 0 ? "primary" : replica == 1 && primary == 0 ? "replica" : primary + "/" + replica;
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.todo.config;
+
+import com.example.todo.exceptions.TodoTooManyRequestsException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WriteAdmissionInterceptorTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private WriteAdmissionInterceptor interceptor;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        interceptor = new WriteAdmissionInterceptor();
+        ReflectionTestUtils.setField(interceptor, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(interceptor, "ratePerSecond", 1.0);
+        ReflectionTestUtils.setField(interceptor, "burst", 2);
+        ReflectionTestUtils.setField(interceptor, "maxConcurrentWrites", 1);
+        interceptor.init();
+    }
+
+    @Test
+    void testTokenBucketAllowsBurstThenRefillsAtRate() {
+        WriteAdmissionInterceptor.TokenBucket bucket = new WriteAdmissionInterceptor.TokenBucket(10, 3, 0);
+
+        assertEquals(0, bucket.tryAcquire(0));
+        assertEquals(0, bucket.tryAcquire(0));
+        assertEquals(0, bucket.tryAcquire(0));
+        assertEquals(SECOND / 10, bucket.tryAcquire(0));
+
+        // One interval later exactly one more token is there
+        assertEquals(0, bucket.tryAcquire(SECOND / 10));
+        assertTrue(bucket.tryAcquire(SECOND / 10) > 0);
+
+        // Idle long enough the bucket is full again, but never above burst
+        long later = 10 * SECOND;
+        assertEquals(0, bucket.tryAcquire(later));
+        assertEquals(0, bucket.tryAcquire(later));
+        assertEquals(0, bucket.tryAcquire(later));
+        assertTrue(bucket.tryAcquire(later) > 0);
+    }
+
+    @Test
+    void testReadsAreNeverLimited() {
+        for (int i = 0; i < 10; i++) {
+            assertTrue(interceptor.preHandle(request("GET", "a"), new MockHttpServletResponse(), null));
+        }
+        assertEquals(0, meterRegistry.counter(MetricsConfig.ADMISSION_REJECTED, "reason", "rate_limit").count());
+    }
+
+    @Test
+    void testRateLimitIsPerClient() {
+        admitAndComplete(request("POST", "a"));
+        admitAndComplete(request("PUT", "a"));
+
+        TodoTooManyRequestsException exception = assertThrows(TodoTooManyRequestsException.class,
+                () -> interceptor.preHandle(request("DELETE", "a"), new MockHttpServletResponse(), null));
+        assertEquals(1, exception.getRetryAfterSeconds());
+        assertEquals(1, meterRegistry.counter(MetricsConfig.ADMISSION_REJECTED, "reason", "rate_limit").count());
+
+        // Another client has its own bucket
+        admitAndComplete(request("POST", "b"));
+    }
+
+    @Test
+    void testBulkheadRejectsWhileFullAndReleasesAfterCompletion() {
+        MockHttpServletRequest first = request("POST", "a");
+        assertTrue(interceptor.preHandle(first, new MockHttpServletResponse(), null));
+        assertEquals(1, meterRegistry.get(MetricsConfig.ADMISSION_WRITES_IN_FLIGHT).gauge().value());
+
+        assertThrows(TodoTooManyRequestsException.class,
+                () -> interceptor.preHandle(request("POST", "b"), new MockHttpServletResponse(), null));
+        assertEquals(1, meterRegistry.counter(MetricsConfig.ADMISSION_REJECTED, "reason", "bulkhead").count());
+
+        interceptor.afterCompletion(first, new MockHttpServletResponse(), null, null);
+        // Completing twice must not hand out an extra permit
+        interceptor.afterCompletion(first, new MockHttpServletResponse(), null, null);
+        assertEquals(0, meterRegistry.get(MetricsConfig.ADMISSION_WRITES_IN_FLIGHT).gauge().value());
+
+        MockHttpServletRequest second = request("POST", "b");
+        assertTrue(interceptor.preHandle(second, new MockHttpServletResponse(), null));
+        assertThrows(TodoTooManyRequestsException.class,
+                () -> interceptor.preHandle(request("POST", "c"), new MockHttpServletResponse(), null));
+    }
+
+    private void admitAndComplete(MockHttpServletRequest request) {
+        assertTrue(interceptor.preHandle(request, new MockHttpServletResponse(), null));
+        interceptor.afterCompletion(request, new MockHttpServletResponse(), null, null);
+    }
+
+    private MockHttpServletRequest request(String method, String clientId) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/todos");
+        request.addHeader(WriteAdmissionInterceptor.CLIENT_ID_HEADER, clientId);
+        return request;
+    }
+}
@@ -4,36 +4,81 @@ package com.example.todo.controller;/*
  * Junit integration test for todocontroller
  */
 
-import com.example.todo.entity.TodoEntity;
+import com.example.todo.exceptions.InvalidTodoRequestException;
+import com.example.todo.exceptions.TodoPreconditionFailedException;
+import com.example.todo.exceptions.TodoVersionConflictException;
+import com.example.todo.model.TodoAgendaRange;
 import com.example.todo.model.TodoDto;
+import com.example.todo.model.TodoImportFormat;
+import com.example.todo.model.TodoImportReportDto;
+import com.example.todo.model.TodoPageDto;
+import com.example.todo.model.TodoPriority;
+import com.example.todo.model.TodoSearchResultDto;
+import com.example.todo.model.TodoStatsDto;
+import com.example.todo.model.TodoStatus;
+import com.example.todo.service.TodoChangeFeed;
+import com.example.todo.service.TodoImportService;
+import com.example.todo.service.TodoSearchService;
 import com.example.todo.service.TodoService;
+import com.example.todo.service.TodoStats;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.fasterxml.jackson.dataformat.smile.databind.SmileMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.zip.GZIPInputStream;
 
 import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(TodoController.class)
+// Meters of the write admission interceptor, metrics auto-configuration is not part of the MVC slice
+@Import(SimpleMeterRegistry.class)
 public class TodoControllerIntegrationTest {
 
     @MockBean
     TodoService todoService;
 
+    @MockBean
+    TodoImportService todoImportService;
+
+    @MockBean
+    TodoSearchService todoSearchService;
+
+    @MockBean
+    TodoChangeFeed todoChangeFeed;
+
+    @MockBean
+    TodoStats todoStats;
+
     @Autowired
     MockMvc mockMvc;
 
@@ -44,8 +89,8 @@ public class TodoControllerIntegrationTest {
         todo = new TodoDto();
         todo.setTitle("Drive to Airport");
         todo.setDescription("Pick up friends");
-        todo.setPriority("medium");
-        todo.setStatus("Pending");
+        todo.setPriority(TodoPriority.MEDIUM);
+        todo.setStatus(TodoStatus.PENDING);
         todo.setDueDate(LocalDate.now().plusDays(5));
         todo.setCreatedAt(LocalDateTime.now());
         todo.setUpdatedAt(LocalDateTime.now());
@@ -71,7 +116,7 @@ public class TodoControllerIntegrationTest {
                 .content(toDoJson))
                 .andExpect(status().isCreated())
                 .andExpect(jsonPath("$.title").value("Drive to Airport"))
-                .andExpect(jsonPath("$.priority").value("medium"));
+                .andExpect(jsonPath("$.priority").value("Medium"));
 
     }
 
@@ -97,31 +142,160 @@ public class TodoControllerIntegrationTest {
                 .andExpect(jsonPath("$.message").value("Please add Title"));
     }
 
+    @Test
+    public void testCreateTodos_Success() throws Exception{
+        when(todoService.createTodos(anyList())).thenReturn(List.of(todo, todo));
+
+        String bulkJson = """
+                {
+                    "todos": [
+                        {"title": "Drive to Airport", "priority": "medium"},
+                        {"title": "Book movie tickets", "priority": "High"}
+                    ]
+                }""";
+
+        mockMvc.perform(post("/api/todos/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(bulkJson))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$", hasSize(2)));
+    }
+
+    @Test
+    public void testCreateTodos_InvalidTodo() throws Exception{
+        String bulkJson = """
+                {
+                    "todos": [
+                        {"title": "Drive to Airport", "priority": "medium"},
+                        {"title": "Book movie tickets"}
+                    ]
+                }""";
+
+        mockMvc.perform(post("/api/todos/bulk")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(bulkJson))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Please Set Priority"));
+    }
+
+    @Test
+    public void testImportTodos_Csv() throws Exception{
+        TodoImportReportDto report = new TodoImportReportDto();
+        report.setImported(2);
+        when(todoImportService.importTodos(any(InputStream.class), eq(TodoImportFormat.CSV))).thenReturn(report);
+
+        mockMvc.perform(post("/api/todos/import")
+                        .contentType("text/csv")
+                        .content("title,priority\nDrive to Airport,High\nGo to Market,Low\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2));
+    }
+
+    @Test
+    public void testImportTodos_Ndjson() throws Exception{
+        TodoImportReportDto report = new TodoImportReportDto();
+        report.setImported(1);
+        when(todoImportService.importTodos(any(InputStream.class), eq(TodoImportFormat.NDJSON))).thenReturn(report);
+
+        mockMvc.perform(post("/api/todos/import")
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .content("{\"title\": \"Drive to Airport\", \"priority\": \"High\"}\n"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1));
+    }
+
     @Test
     public void testGetAllTodos_Success() throws Exception{
-        TodoEntity todo2 = new TodoEntity();
+        TodoDto todo2 = new TodoDto();
         todo2.setTitle("Book movie tickets");
         todo2.setDescription("Any movie");
-        todo2.setPriority("High");
-        todo2.setStatus("Done");
+        todo2.setPriority(TodoPriority.HIGH);
+        todo2.setStatus(TodoStatus.DONE);
         todo2.setDueDate(LocalDate.now());
         todo2.setCreatedAt(LocalDateTime.now());
         todo2.setUpdatedAt(LocalDateTime.now());
 
-        List todoList =  new ArrayList();
+        List<TodoDto> todoList =  new ArrayList<>();
         todoList.add(todo);
         todoList.add(todo2);
 
-        when(todoService.getAllTodo()).thenReturn(todoList);
+        when(todoService.getAllTodo(null, null)).thenReturn(new TodoPageDto(todoList, 2, "aWQ6Mg"));
 
         mockMvc.perform(get("/api/todos/getall")
                 .contentType(MediaType.APPLICATION_JSON))
                 .andDo(print())
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$", hasSize(2)))
-                .andExpect(jsonPath("$[*].title",containsInAnyOrder("Drive to Airport","Book movie tickets")));
+                .andExpect(jsonPath("$.todos", hasSize(2)))
+                .andExpect(jsonPath("$.todos[*].title",containsInAnyOrder("Drive to Airport","Book movie tickets")))
+                .andExpect(jsonPath("$.nextCursor").value("aWQ6Mg"));
+    }
+
+    @Test
+    public void testGetAllTodos_Cbor() throws Exception {
+        when(todoService.getAllTodo(null, null)).thenReturn(new TodoPageDto(List.of(todo), 1, null));
+
+        byte[] body = mockMvc.perform(get("/api/todos/getall")
+                        .accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode page = new CBORMapper().readTree(body);
+        assertEquals("Drive to Airport", page.get("todos").get(0).get("title").asText());
+        assertEquals(todo.getDueDate().toString(), page.get("todos").get(0).get("dueDate").asText());
+    }
+
+    @Test
+    public void testGetAllTodos_InvalidCursor() throws Exception{
+        when(todoService.getAllTodo("bad", 10)).thenThrow(new InvalidTodoRequestException("Invalid cursor: bad"));
+
+        mockMvc.perform(get("/api/todos/getall")
+                .param("cursor","bad")
+                .param("size","10"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid cursor: bad"));
+    }
+
+
+    @Test
+    public void testExportTodos_Ndjson() throws Exception {
+        stubExport();
+
+        MvcResult asyncResult = mockMvc.perform(get("/api/todos/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"id\":1}\n{\"id\":2}\n"));
     }
 
+    @Test
+    public void testExportTodos_Gzip() throws Exception {
+        stubExport();
+
+        MvcResult asyncResult = mockMvc.perform(get("/api/todos/export").param("gzip", "true"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        byte[] compressed = mockMvc.perform(asyncDispatch(asyncResult))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Content-Encoding", "gzip"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        try (GZIPInputStream inputStream = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            assertEquals("{\"id\":1}\n{\"id\":2}\n", new String(inputStream.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    private void stubExport() throws Exception {
+        doAnswer(invocation -> {
+            OutputStream outputStream = invocation.getArgument(0);
+            outputStream.write("{\"id\":1}\n{\"id\":2}\n".getBytes(StandardCharsets.UTF_8));
+            return 2L;
+        }).when(todoService).exportTodos(any(OutputStream.class));
+    }
 
     @Test
     public void getTodoByIdTest_Success() throws Exception {
@@ -145,6 +319,105 @@ public class TodoControllerIntegrationTest {
                 .andExpect(jsonPath("$.title").value("Drive to Airport"));
     }
 
+    @Test
+    public void testGetTodoById_NotModified() throws Exception {
+        when(todoService.getTodoVersion(1L)).thenReturn(2L);
+
+        mockMvc.perform(get("/api/todos/1").header("If-None-Match", "\"2\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"2\""))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    public void testGetAllTodos_NotModified() throws Exception {
+        todo.setId(1L);
+        todo.setVersion(0L);
+        TodoPageDto todoPage = new TodoPageDto(List.of(todo), 1, null);
+        when(todoService.getAllTodo(null, null)).thenReturn(todoPage);
+
+        String etag = mockMvc.perform(get("/api/todos/getall"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/todos/getall").header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        todo.setVersion(1L);
+        mockMvc.perform(get("/api/todos/getall").header("If-None-Match", etag))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    public void testUpdateTodoById_IfMatchFails() throws Exception {
+        when(todoService.updateTodoById(anyLong(), any(TodoDto.class)))
+                .thenThrow(new TodoPreconditionFailedException("Todo task with ID: 1 has been modified, current version: 3"));
+
+        mockMvc.perform(put("/api/todos/1")
+                        .header("If-Match", "\"2\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"Drive to Airport\"}"))
+                .andExpect(status().isPreconditionFailed());
+    }
+
+    @Test
+    public void testUpdateTodoById_WeakIfMatchFails() throws Exception {
+        mockMvc.perform(put("/api/todos/1")
+                        .header("If-Match", "W/\"2\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"Drive to Airport\"}"))
+                .andExpect(status().isPreconditionFailed());
+
+        verify(todoService, never()).updateTodoById(anyLong(), any(TodoDto.class));
+    }
+
+    @Test
+    public void testUpdateTodoById_StrongIfMatchSetsVersion() throws Exception {
+        when(todoService.updateTodoById(eq(1L), argThat(todo -> Long.valueOf(2L).equals(todo.getVersion())))).thenReturn(todo);
+        todo.setVersion(3L);
+
+        mockMvc.perform(put("/api/todos/1")
+                        .header("If-Match", "\"2\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"Drive to Airport\"}"))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"3\""));
+    }
+
+    @Test
+    public void testUpdateTodoById_InvalidIfMatch() throws Exception {
+        mockMvc.perform(put("/api/todos/1")
+                        .header("If-Match", "\"two\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"title\": \"Drive to Airport\"}"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    public void testPatchTodoById_Success() throws Exception {
+        when(todoService.patchTodoById(eq(1L), any(TodoDto.class))).thenReturn(4L);
+
+        mockMvc.perform(patch("/api/todos/1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\": \"Done\", \"version\": 3}"))
+                .andExpect(status().isNoContent())
+                .andExpect(header().string("ETag", "\"4\""));
+    }
+
+    @Test
+    public void testPatchTodoById_Conflict() throws Exception {
+        when(todoService.patchTodoById(eq(1L), any(TodoDto.class)))
+                .thenThrow(new TodoVersionConflictException("Todo task with ID: 1 is no longer at version 3"));
+
+        mockMvc.perform(patch("/api/todos/1")
+                        .header("If-Match", "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"status\": \"Done\"}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value("Todo task with ID: 1 is no longer at version 3"));
+    }
+
     @Test
     public void testDeleteById_Success() throws Exception {
         mockMvc.perform(delete("/api/todos/1"))
@@ -158,8 +431,8 @@ public class TodoControllerIntegrationTest {
         updatedTodo.setId(1L);
         updatedTodo.setTitle("Drive to Airport");
         updatedTodo.setDescription("Pick up friends and drop to home");
-        updatedTodo.setStatus("Pending");
-        updatedTodo.setPriority("High");
+        updatedTodo.setStatus(TodoStatus.PENDING);
+        updatedTodo.setPriority(TodoPriority.HIGH);
         updatedTodo.setDueDate(LocalDate.now().plusDays(5));
         updatedTodo.setCreatedAt(LocalDateTime.now());
         updatedTodo.setUpdatedAt(LocalDateTime.now());
@@ -188,19 +461,19 @@ public class TodoControllerIntegrationTest {
 
     @Test
     public  void testFindToDoByPriority_Success() throws Exception {
-        TodoEntity todo2 = new TodoEntity();
+        TodoDto todo2 = new TodoDto();
         todo2.setTitle("Book movie tickets");
         todo2.setDescription("Any movie");
-        todo2.setPriority("High");
-        todo2.setStatus("Done");
+        todo2.setPriority(TodoPriority.HIGH);
+        todo2.setStatus(TodoStatus.DONE);
         todo2.setDueDate(LocalDate.now());
         todo2.setCreatedAt(LocalDateTime.now());
         todo2.setUpdatedAt(LocalDateTime.now());
 
-        List todoList =  new ArrayList();
+        List<TodoDto> todoList = new ArrayList<>();
         todoList.add(todo);
         todoList.add(todo2);
-        when(todoService.getTodoByPriority(anyString())).thenReturn(todoList);
+        when(todoService.getTodoByPriority(TodoPriority.HIGH)).thenReturn(todoList);
 
         mockMvc.perform(get("/api/todos/find")
                 .contentType(MediaType.APPLICATION_JSON)
@@ -208,4 +481,110 @@ public class TodoControllerIntegrationTest {
                 .andExpect(status().isFound())
                 .andExpect(jsonPath("$",hasSize(2)));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testFindToDoByPriority_ParamIgnoresCase() throws Exception {
+        when(todoService.getTodoByPriorityAndStatus(TodoPriority.HIGH, TodoStatus.IN_PROGRESS)).thenReturn(List.of(todo));
+
+        mockMvc.perform(get("/api/todos/find")
+                .param("priority","high")
+                .param("status","in progress"))
+                .andExpect(status().isFound())
+                .andExpect(jsonPath("$",hasSize(1)));
+    }
+
+    @Test
+    public void testFindToDoByPriority_Smile() throws Exception {
+        when(todoService.getTodoByPriority(TodoPriority.MEDIUM)).thenReturn(List.of(todo, todo));
+
+        byte[] body = mockMvc.perform(get("/api/todos/find")
+                        .param("priority","Medium")
+                        .accept("application/x-jackson-smile"))
+                .andExpect(status().isFound())
+                .andExpect(content().contentType("application/x-jackson-smile"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        JsonNode todos = new SmileMapper().readTree(body);
+        assertEquals(2, todos.size());
+        assertEquals("Medium", todos.get(1).get("priority").asText());
+    }
+
+    @Test
+    public void testFindToDoByPriority_UnknownPriority() throws Exception {
+        mockMvc.perform(get("/api/todos/find")
+                .param("priority","urgent"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid priority: urgent, expected one of High, Medium, Low"));
+    }
+
+    @Test
+    public void testCreateTodo_UnknownStatus() throws Exception {
+        String toDoJson = """
+                {"title": "Drive to Airport", "status": "Waiting", "priority": "HIGH"}""";
+
+        mockMvc.perform(post("/api/todos/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(toDoJson))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid status: Waiting, expected one of Pending, In Progress, Done"));
+    }
+
+    @Test
+    public void testSearchTodos_Success() throws Exception {
+        when(todoSearchService.searchTodos("drive air", 1, 5)).thenReturn(new TodoSearchResultDto(List.of(todo), 1, 5, 6));
+
+        mockMvc.perform(get("/api/todos/search")
+                .param("q","drive air")
+                .param("page","1")
+                .param("size","5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.todos",hasSize(1)))
+                .andExpect(jsonPath("$.total").value(6));
+    }
+
+    @Test
+    public void testGetStats_Success() throws Exception {
+        when(todoStats.getStats()).thenReturn(new TodoStatsDto(3,
+                Map.of(TodoStatus.PENDING, 2L, TodoStatus.IN_PROGRESS, 0L, TodoStatus.DONE, 1L),
+                Map.of(TodoPriority.HIGH, 2L, TodoPriority.MEDIUM, 1L, TodoPriority.LOW, 0L),
+                LocalDateTime.of(2026, 10, 18, 9, 30)));
+
+        mockMvc.perform(get("/api/todos/stats"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(3))
+                .andExpect(jsonPath("$.byStatus.['In Progress']").value(0))
+                .andExpect(jsonPath("$.byPriority.High").value(2));
+    }
+
+    @Test
+    public void testGetAgenda_DefaultsToToday() throws Exception {
+        when(todoService.getAgenda(TodoAgendaRange.TODAY, null, null, null)).thenReturn(new TodoPageDto(List.of(todo), 1, null));
+
+        mockMvc.perform(get("/api/todos/agenda"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.todos",hasSize(1)));
+    }
+
+    @Test
+    public void testGetAgenda_UnknownRange() throws Exception {
+        mockMvc.perform(get("/api/todos/agenda").param("range","tomorrow"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message").value("Invalid agenda range: tomorrow, expected one of overdue, today, upcoming"));
+    }
+
+    @Test
+    public void testGetChangeFeed_ResumesFromLastEventId() throws Exception {
+        SseEmitter emitter = new SseEmitter();
+        when(todoChangeFeed.subscribe("41")).thenReturn(emitter);
+
+        MvcResult result = mockMvc.perform(get("/api/todos/feed")
+                .header("Last-Event-ID", "41")
+                .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        emitter.send(SseEmitter.event().id("42").data("{}"));
+
+        assertEquals("id:42\ndata:{}\n\n", result.getResponse().getContentAsString());
+    }
+}
@@ -1,8 +1,21 @@
 package com.example.todo.controller;
 
 import com.example.todo.entity.TodoEntity;
+import com.example.todo.model.TodoAgendaRange;
+import com.example.todo.model.TodoBulkCreateDto;
+import com.example.todo.model.TodoBulkDeleteDto;
+import com.example.todo.model.TodoBulkDeleteResultDto;
 import com.example.todo.model.TodoDto;
+import com.example.todo.model.TodoPageDto;
+import com.example.todo.model.TodoPriority;
+import com.example.todo.model.TodoSearchResultDto;
+import com.example.todo.model.TodoStatsDto;
+import com.example.todo.model.TodoStatus;
+import com.example.todo.service.TodoChangeFeed;
+import com.example.todo.service.TodoImportService;
+import com.example.todo.service.TodoSearchService;
 import com.example.todo.service.TodoService;
+import com.example.todo.service.TodoStats;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
@@ -10,10 +23,12 @@ import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -28,6 +43,18 @@ class TodoControllerTest {
     @Mock
     TodoService todoService;
 
+    @Mock
+    TodoImportService todoImportService;
+
+    @Mock
+    TodoSearchService todoSearchService;
+
+    @Mock
+    TodoChangeFeed todoChangeFeed;
+
+    @Mock
+    TodoStats todoStats;
+
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
@@ -40,8 +67,8 @@ class TodoControllerTest {
         TodoDto todo = new TodoDto();
         todo.setId(1L);
         todo.setTitle("Drive to Airport");
-        todo.setPriority("High");
-        todo.setStatus("Pending");
+        todo.setPriority(TodoPriority.HIGH);
+        todo.setStatus(TodoStatus.PENDING);
         todo.setDueDate(LocalDate.now());
         todo.setCreatedAt(LocalDateTime.now());
         todo.setUpdatedAt(LocalDateTime.now());
@@ -54,14 +81,30 @@ class TodoControllerTest {
         verify(todoService, times(1)).createTodo(todo);
     }
 
+    @Test
+    void testCreateTodos() {
+        TodoDto todo = new TodoDto();
+        todo.setTitle("Drive to Airport");
+        todo.setPriority(TodoPriority.HIGH);
+        List<TodoDto> todoList = List.of(todo);
+
+        when(todoService.createTodos(todoList)).thenReturn(todoList);
+
+        ResponseEntity<List<TodoDto>> response = todoController.createTodos(new TodoBulkCreateDto(todoList));
+
+        assertEquals(HttpStatus.CREATED, response.getStatusCode());
+        assertEquals(1, response.getBody().size());
+        verify(todoService, times(1)).createTodos(todoList);
+    }
+
     @Test
     public void testGetAllTodos() {
         List<TodoDto> todoList = new ArrayList<>();
         TodoDto todo1 = new TodoDto();
         todo1.setId(1L);
         todo1.setTitle("Drive to Airport");
-        todo1.setPriority("High");
-        todo1.setStatus("Pending");
+        todo1.setPriority(TodoPriority.HIGH);
+        todo1.setStatus(TodoStatus.PENDING);
         todo1.setDueDate(LocalDate.now());
         todo1.setCreatedAt(LocalDateTime.now());
         todo1.setUpdatedAt(LocalDateTime.now());
@@ -69,8 +112,8 @@ class TodoControllerTest {
         TodoDto todo2 = new TodoDto();
         todo2.setId(2L);
         todo2.setTitle("Go to swimming");
-        todo2.setPriority("Medium");
-        todo2.setStatus("Done");
+        todo2.setPriority(TodoPriority.MEDIUM);
+        todo2.setStatus(TodoStatus.DONE);
         todo2.setDueDate(LocalDate.now());
         todo2.setCreatedAt(LocalDateTime.now());
         todo2.setUpdatedAt(LocalDateTime.now());
@@ -78,13 +121,13 @@ class TodoControllerTest {
         todoList.add(todo1);
         todoList.add(todo2);
 
-        when(todoService.getAllTodo()).thenReturn(todoList);
+        when(todoService.getAllTodo(null, null)).thenReturn(new TodoPageDto(todoList, 2, null));
 
-        ResponseEntity<List<TodoDto>> response = todoController.getAllTodos();
+        ResponseEntity<TodoPageDto> response = todoController.getAllTodos(null, null, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
-        assertEquals(2, response.getBody().size());
-        verify(todoService, times(1)).getAllTodo();
+        assertEquals(2, response.getBody().getTodos().size());
+        verify(todoService, times(1)).getAllTodo(null, null);
     }
 
     @Test
@@ -92,15 +135,15 @@ class TodoControllerTest {
         TodoDto todo = new TodoDto();
         todo.setId(1L);
         todo.setTitle("Drive to Airport");
-        todo.setPriority("High");
-        todo.setStatus("Pending");
+        todo.setPriority(TodoPriority.HIGH);
+        todo.setStatus(TodoStatus.PENDING);
         todo.setDueDate(LocalDate.now());
         todo.setCreatedAt(LocalDateTime.now());
         todo.setUpdatedAt(LocalDateTime.now());
 
         when(todoService.getToDoById(1L)).thenReturn(todo);
 
-        ResponseEntity<TodoDto> response = todoController.getTodoByID(1L);
+        ResponseEntity<TodoDto> response = todoController.getTodoByID(1L, null);
 
         assertEquals(HttpStatus.FOUND, response.getStatusCode());
         assertEquals("Drive to Airport", response.getBody().getTitle());
@@ -118,20 +161,31 @@ class TodoControllerTest {
         verify(todoService, times(1)).deleteTodoById(1L);
     }
 
+    @Test
+    public void testDeleteTodos() {
+        TodoBulkDeleteDto bulkDelete = new TodoBulkDeleteDto(null, TodoStatus.DONE, null);
+        when(todoService.deleteTodos(bulkDelete)).thenReturn(4);
+
+        ResponseEntity<TodoBulkDeleteResultDto> response = todoController.deleteTodos(bulkDelete);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(4, response.getBody().getDeleted());
+    }
+
     @Test
     public void testUpdateTodoById() {
         TodoDto todo = new TodoDto();
         todo.setId(1L);
         todo.setTitle("Updated Todo");
-        todo.setPriority("High");
-        todo.setStatus("Pending");
+        todo.setPriority(TodoPriority.HIGH);
+        todo.setStatus(TodoStatus.PENDING);
         todo.setDueDate(LocalDate.now());
         todo.setCreatedAt(LocalDateTime.now());
         todo.setUpdatedAt(LocalDateTime.now());
 
         when(todoService.updateTodoById(any(Long.class), any(TodoDto.class))).thenReturn(todo);
 
-        ResponseEntity<TodoDto> response = todoController.updateTodoById(1L, todo);
+        ResponseEntity<TodoDto> response = todoController.updateTodoById(1L, null, todo);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertEquals("Updated Todo", response.getBody().getTitle());
@@ -144,20 +198,119 @@ class TodoControllerTest {
         TodoDto todo = new TodoDto();
         todo.setId(1L);
         todo.setTitle("Drive to Airport");
-        todo.setPriority("High");
-        todo.setStatus("Pending");
+        todo.setPriority(TodoPriority.HIGH);
+        todo.setStatus(TodoStatus.PENDING);
         todo.setDueDate(LocalDate.now());
         todo.setCreatedAt(LocalDateTime.now());
         todo.setUpdatedAt(LocalDateTime.now());
         todoList.add(todo);
 
-        when(todoService.getTodoByPriority("High")).thenReturn(todoList);
+        when(todoService.getTodoByPriority(TodoPriority.HIGH)).thenReturn(todoList);
 
-        ResponseEntity<List<TodoDto>> response = todoController.findToDoByPriority("High");
+        ResponseEntity<List<TodoDto>> response = todoController.findToDoByPriority(TodoPriority.HIGH, null);
 
         assertEquals(HttpStatus.FOUND, response.getStatusCode());
         assertEquals(1, response.getBody().size());
         assertEquals("Drive to Airport", response.getBody().get(0).getTitle());
-        verify(todoService, times(1)).getTodoByPriority("High");
+        verify(todoService, times(1)).getTodoByPriority(TodoPriority.HIGH);
+    }
+
+    @Test
+    public void testFindToDoByPriorityAndStatus() {
+        TodoDto todo = new TodoDto();
+        todo.setId(1L);
+        todo.setTitle("Drive to Airport");
+        todo.setPriority(TodoPriority.HIGH);
+        todo.setStatus(TodoStatus.PENDING);
+
+        when(todoService.getTodoByPriorityAndStatus(TodoPriority.HIGH, TodoStatus.PENDING)).thenReturn(List.of(todo));
+
+        ResponseEntity<List<TodoDto>> response = todoController.findToDoByPriority(TodoPriority.HIGH, TodoStatus.PENDING);
+
+        assertEquals(HttpStatus.FOUND, response.getStatusCode());
+        assertEquals(1, response.getBody().size());
+        verify(todoService, times(1)).getTodoByPriorityAndStatus(TodoPriority.HIGH, TodoStatus.PENDING);
+        verify(todoService, never()).getTodoByPriority(any());
+    }
+
+    @Test
+    public void testGetTodoById_NotModified() {
+        when(todoService.getTodoVersion(1L)).thenReturn(3L);
+
+        ResponseEntity<TodoDto> response = todoController.getTodoByID(1L, "\"3\"");
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        assertEquals("\"3\"", response.getHeaders().getETag());
+        verify(todoService, never()).getToDoById(any());
+    }
+
+    @Test
+    public void testGetTodoById_ModifiedSinceEtag() {
+        TodoDto todo = new TodoDto();
+        todo.setId(1L);
+        todo.setTitle("Drive to Airport");
+        todo.setVersion(4L);
+        when(todoService.getTodoVersion(1L)).thenReturn(4L);
+        when(todoService.getToDoById(1L)).thenReturn(todo);
+
+        ResponseEntity<TodoDto> response = todoController.getTodoByID(1L, "\"3\"");
+
+        assertEquals(HttpStatus.FOUND, response.getStatusCode());
+        assertEquals("\"4\"", response.getHeaders().getETag());
+    }
+
+    @Test
+    public void testUpdateTodoById_IfMatchSetsExpectedVersion() {
+        TodoDto todo = new TodoDto();
+        todo.setTitle("Updated Todo");
+        TodoDto updatedTodo = new TodoDto();
+        updatedTodo.setVersion(6L);
+        when(todoService.updateTodoById(1L, todo)).thenReturn(updatedTodo);
+
+        ResponseEntity<TodoDto> response = todoController.updateTodoById(1L, "\"5\"", todo);
+
+        assertEquals(5L, todo.getVersion());
+        assertEquals("\"6\"", response.getHeaders().getETag());
+    }
+
+    @Test
+    public void testSearchTodos() {
+        TodoSearchResultDto result = new TodoSearchResultDto(new ArrayList<>(), 0, 20, 0);
+        when(todoSearchService.searchTodos("airport", null, null)).thenReturn(result);
+
+        ResponseEntity<TodoSearchResultDto> response = todoController.searchTodos("airport", null, null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(result, response.getBody());
+    }
+
+    @Test
+    public void testGetStats() {
+        TodoStatsDto stats = new TodoStatsDto(0, new HashMap<>(), new HashMap<>(), null);
+        when(todoStats.getStats()).thenReturn(stats);
+
+        ResponseEntity<TodoStatsDto> response = todoController.getStats();
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(stats, response.getBody());
+    }
+
+    @Test
+    public void testGetAgenda() {
+        TodoPageDto agenda = new TodoPageDto(new ArrayList<>(), 0, null);
+        when(todoService.getAgenda(TodoAgendaRange.UPCOMING, 7, null, null)).thenReturn(agenda);
+
+        ResponseEntity<TodoPageDto> response = todoController.getAgenda(TodoAgendaRange.UPCOMING, 7, null, null);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertEquals(agenda, response.getBody());
+    }
+
+    @Test
+    public void testGetChangeFeed() {
+        SseEmitter emitter = new SseEmitter();
+        when(todoChangeFeed.subscribe(null)).thenReturn(emitter);
+
+        assertEquals(emitter, todoController.getChangeFeed(null));
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,93 @@
+package com.example.todo.controller;
+
+import com.example.todo.model.TodoDto;
+import com.example.todo.model.TodoPriority;
+import com.example.todo.model.TodoStatus;
+import com.example.todo.service.TodoService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Compression is done by the embedded server, so this needs a real port rather than MockMvc
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class TodoResponseCompressionTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private TodoService todoService;
+
+    private final HttpClient httpClient = HttpClient.newHttpClient();
+
+    private final List<Long> createdIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        createdIds.forEach(todoService::deleteTodoById);
+    }
+
+    @Test
+    void testLargeListIsGzippedOnlyWhenAccepted() throws Exception {
+        createTodos();
+
+        HttpResponse<byte[]> gzipped = get("/api/todos/find?priority=Low&status=Pending", "gzip", null);
+        HttpResponse<byte[]> plain = get("/api/todos/find?priority=Low&status=Pending", null, null);
+
+        assertEquals("gzip", gzipped.headers().firstValue("Content-Encoding").orElse(null));
+        assertTrue(plain.headers().firstValue("Content-Encoding").isEmpty());
+        assertTrue(gzipped.body().length < plain.body().length / 2);
+    }
+
+    @Test
+    void testPageIsGzippedWithWeakEtag() throws Exception {
+        createTodos();
+
+        HttpResponse<byte[]> gzipped = get("/api/todos/getall", "gzip", null);
+
+        assertEquals(200, gzipped.statusCode());
+        assertEquals("gzip", gzipped.headers().firstValue("Content-Encoding").orElse(null));
+        String etag = gzipped.headers().firstValue("ETag").orElseThrow();
+        assertTrue(etag.startsWith("W/\"p"), etag);
+
+        HttpResponse<byte[]> notModified = get("/api/todos/getall", "gzip", etag);
+
+        assertEquals(304, notModified.statusCode());
+        assertEquals(etag, notModified.headers().firstValue("ETag").orElse(null));
+    }
+
+    private void createTodos() {
+        List<TodoDto> todos = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            TodoDto todo = new TodoDto();
+            todo.setTitle("Compressed task " + i);
+            todo.setDescription("Long enough description to push the list over the compression threshold");
+            todo.setPriority(TodoPriority.LOW);
+            todo.setStatus(TodoStatus.PENDING);
+            todos.add(todo);
+        }
+        todoService.createTodos(todos).forEach(created -> createdIds.add(created.getId()));
+    }
+
+    private HttpResponse<byte[]> get(String path, String acceptEncoding, String ifNoneMatch) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path));
+        if (acceptEncoding != null) {
+            request.header("Accept-Encoding", acceptEncoding);
+        }
+        if (ifNoneMatch != null) {
+            request.header("If-None-Match", ifNoneMatch);
+        }
+        return httpClient.send(request.build(), HttpResponse.BodyHandlers.ofByteArray());
+    }
+}
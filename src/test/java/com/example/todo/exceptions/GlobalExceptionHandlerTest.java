@@ -1,13 +1,16 @@
 package com.example.todo.exceptions;
 
+import com.example.todo.entity.TodoEntity;
 import com.example.todo.model.RestCustomErrorResponse;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.context.request.WebRequest;
@@ -40,6 +43,58 @@ class GlobalExceptionHandlerTest {
         assertEquals(HttpStatus.NOT_FOUND.value(), response.getBody().getStatus());
     }
 
+    @Test
+    public void testHandleTodoTooManyRequestsException() {
+        TodoTooManyRequestsException exception = new TodoTooManyRequestsException("Write rate limit exceeded for client: a", 3);
+
+        ResponseEntity<RestCustomErrorResponse> response = globalExceptionHandler.handleTodoTooManyRequestsException(exception);
+
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, response.getStatusCode());
+        assertEquals("3", response.getHeaders().getFirst(HttpHeaders.RETRY_AFTER));
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS.value(), response.getBody().getStatus());
+    }
+
+    @Test
+    public void testHandleTodoPreconditionFailedException() {
+        TodoPreconditionFailedException exception = new TodoPreconditionFailedException("Todo task with ID: 1 has been modified");
+
+        ResponseEntity<RestCustomErrorResponse> response = globalExceptionHandler.handleTodoPreconditionFailedException(exception);
+
+        assertEquals(HttpStatus.PRECONDITION_FAILED, response.getStatusCode());
+        assertEquals("Todo task with ID: 1 has been modified", response.getBody().getMessage());
+    }
+
+    @Test
+    public void testHandleTodoVersionConflictException() {
+        TodoVersionConflictException exception = new TodoVersionConflictException("Todo task with ID: 1 is no longer at version 2");
+
+        ResponseEntity<RestCustomErrorResponse> response = globalExceptionHandler.handleTodoVersionConflictException(exception);
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals(HttpStatus.CONFLICT.value(), response.getBody().getStatus());
+    }
+
+    @Test
+    public void testHandleOptimisticLockingFailureException() {
+        ObjectOptimisticLockingFailureException exception = new ObjectOptimisticLockingFailureException(TodoEntity.class, 1L);
+
+        ResponseEntity<RestCustomErrorResponse> response = globalExceptionHandler.handleOptimisticLockingFailureException(exception);
+
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals(HttpStatus.CONFLICT.value(), response.getBody().getStatus());
+        assertEquals("Todo task with ID: 1 was modified concurrently, read it again and retry", response.getBody().getMessage());
+    }
+
+    @Test
+    public void testHandleInvalidTodoRequestException() {
+        InvalidTodoRequestException exception = new InvalidTodoRequestException("Invalid cursor: abc");
+
+        ResponseEntity<RestCustomErrorResponse> response = globalExceptionHandler.handleInvalidTodoRequestException(exception);
+
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Invalid cursor: abc", response.getBody().getMessage());
+    }
+
     @Test
     public void testHandleGeneralException() {
         Exception exception = new Exception("General error occurred");
@@ -0,0 +1,51 @@
+package com.example.todo.mapper;
+
+import com.example.todo.entity.TodoEntity;
+import com.example.todo.model.TodoDto;
+import com.example.todo.model.TodoPriority;
+import com.example.todo.model.TodoStatus;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TodoMapperTest {
+
+    private final TodoEntity todoEntity = new TodoEntity(1L,"Drive to airport","Pickup firends",TodoStatus.PENDING,TodoPriority.HIGH,
+            LocalDate.now(), LocalDateTime.now(),LocalDateTime.now(), 0L);
+
+    @Test
+    void testToDto_MatchesBeanUtilsCopy() {
+        TodoDto expected = new TodoDto();
+        BeanUtils.copyProperties(todoEntity, expected);
+
+        assertEquals(expected, TodoMapper.toDto(todoEntity));
+    }
+
+    @Test
+    void testToDtoList_KeepsOrder() {
+        TodoEntity todo2 = new TodoEntity(2L,"Book movie tickets", "Any movie", TodoStatus.PENDING, TodoPriority.HIGH, null,null,null, 0L);
+
+        List<TodoDto> todoDtos = TodoMapper.toDtoList(List.of(todoEntity, todo2));
+
+        assertEquals(2, todoDtos.size());
+        assertEquals(1L, todoDtos.get(0).getId());
+        assertEquals("Book movie tickets", todoDtos.get(1).getTitle());
+    }
+
+    @Test
+    void testToNewEntity_IgnoresId() {
+        TodoDto todoDto = TodoMapper.toDto(todoEntity);
+
+        TodoEntity newEntity = TodoMapper.toNewEntity(todoDto);
+
+        assertEquals(0L, newEntity.getId());
+        assertEquals("Drive to airport", newEntity.getTitle());
+        assertEquals(TodoPriority.HIGH, newEntity.getPriority());
+        assertEquals(todoEntity.getDueDate(), newEntity.getDueDate());
+    }
+}
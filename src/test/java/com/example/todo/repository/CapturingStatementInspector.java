@@ -0,0 +1,36 @@
+package com.example.todo.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * Hibernate statement inspector which records the SQL generated for repository queries
+ */
+
+public class CapturingStatementInspector implements StatementInspector {
+
+    private static final List<String> statements = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        statements.add(sql);
+        return sql;
+    }
+
+    static void clear() {
+        statements.clear();
+    }
+
+    static String lastSelect() {
+        for (int i = statements.size() - 1; i >= 0; i--) {
+            if (statements.get(i).trim().toLowerCase().startsWith("select")) {
+                return statements.get(i);
+            }
+        }
+        throw new IllegalStateException("No select statement captured");
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.todo.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LongObjectMapTest {
+
+    @Test
+    void testPutGetRemove() {
+        LongObjectMap<String> map = new LongObjectMap<>();
+
+        assertNull(map.put(1L, "one"));
+        assertEquals("one", map.put(1L, "uno"));
+        assertNull(map.put(Long.MIN_VALUE, "min"));
+        assertNull(map.put(0L, "zero"));
+
+        assertEquals("uno", map.get(1L));
+        assertEquals("min", map.get(Long.MIN_VALUE));
+        assertEquals("zero", map.get(0L));
+        assertNull(map.get(2L));
+        assertEquals(3, map.size());
+
+        assertEquals("min", map.remove(Long.MIN_VALUE));
+        assertNull(map.remove(Long.MIN_VALUE));
+        assertEquals(2, map.size());
+    }
+
+    @Test
+    void testMatchesHashMapUnderRandomChurn() {
+        LongObjectMap<Long> map = new LongObjectMap<>();
+        Map<Long, Long> expected = new HashMap<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 200_000; i++) {
+            // Small key range so removals regularly shift back collided entries
+            long key = random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else {
+                assertEquals(expected.put(key, (long) i), map.put(key, (long) i));
+            }
+        }
+
+        assertEquals(expected.size(), map.size());
+        expected.forEach((key, value) -> assertEquals(value, map.get(key)));
+        List<Long> values = new ArrayList<>();
+        map.forEachValue(values::add);
+        assertEquals(expected.size(), values.size());
+    }
+
+    @Test
+    void testClear() {
+        LongObjectMap<String> map = new LongObjectMap<>();
+        for (long key = 0; key < 100; key++) {
+            map.put(key, "value");
+        }
+
+        map.clear();
+
+        assertEquals(0, map.size());
+        assertNull(map.get(5L));
+        map.put(5L, "again");
+        assertEquals("again", map.get(5L));
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.todo.repository;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SortedKeyIndexTest {
+
+    @Test
+    void testAddRemoveAndAfter() {
+        SortedKeyIndex index = new SortedKeyIndex(true);
+
+        assertTrue(index.add(20, 5L));
+        assertTrue(index.add(10, 7L));
+        assertTrue(index.add(20, 1L));
+        assertFalse(index.add(10, 7L));
+
+        assertEquals(3, index.size());
+        assertEquals(10, index.majorAt(0));
+        assertEquals(1L, index.minorAt(1));
+        assertEquals(5L, index.minorAt(2));
+        assertEquals(1, index.after(10, 7L));
+        assertEquals(1, index.after(20, Long.MIN_VALUE));
+        assertEquals(3, index.after(Integer.MAX_VALUE, 0L));
+
+        assertTrue(index.remove(20, 1L));
+        assertFalse(index.remove(20, 1L));
+        assertEquals(2, index.size());
+        assertEquals(5L, index.minorAt(1));
+    }
+
+    @Test
+    void testMatchesTreeSetUnderRandomChurn() {
+        SortedKeyIndex index = new SortedKeyIndex(false);
+        TreeSet<Long> expected = new TreeSet<>();
+        Random random = new Random(42);
+        for (int i = 0; i < 100_000; i++) {
+            long key = random.nextInt(5_000);
+            if (random.nextInt(3) == 0) {
+                assertEquals(expected.remove(key), index.remove(0, key));
+            } else {
+                assertEquals(expected.add(key), index.add(0, key));
+            }
+        }
+
+        index.retainIf(key -> key % 2 == 0);
+        expected.removeIf(key -> key % 2 != 0);
+
+        List<Long> keys = new ArrayList<>();
+        for (int i = 0; i < index.size(); i++) {
+            assertEquals(0, index.majorAt(i));
+            keys.add(index.minorAt(i));
+        }
+        assertEquals(new ArrayList<>(expected), keys);
+        Long higher = expected.higher(2_500L);
+        assertEquals(higher == null ? index.size() : keys.indexOf(higher), index.after(0, 2_500L));
+    }
+
+    @Test
+    void testClear() {
+        SortedKeyIndex index = new SortedKeyIndex(true);
+        for (long key = 0; key < 100; key++) {
+            index.add(1, key);
+        }
+
+        index.clear();
+
+        assertEquals(0, index.size());
+        assertEquals(0, index.after(1, 5L));
+        assertTrue(index.add(1, 5L));
+    }
+}
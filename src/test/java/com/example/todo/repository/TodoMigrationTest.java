@@ -0,0 +1,97 @@
+package com.example.todo.repository;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * Runs the V2 migration over rows written with the old text status and priority,
+ * also on a schema created before Flyway that is baselined first
+ */
+
+class TodoMigrationTest {
+
+    private static final String URL = "jdbc:h2:mem:todo_migration;DB_CLOSE_DELAY=-1";
+
+    @Test
+    public void testMigratesTextToCodes() throws SQLException {
+        Flyway.configure().dataSource(URL, "sa", "").target("1").load().migrate();
+        try (Connection connection = DriverManager.getConnection(URL, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate("insert into todo_entity (id, title, status, priority, version) values "
+                    + "(1, 'a', 'Pending', 'high', 0), (2, 'b', ' DONE ', 'Medium', 0), "
+                    + "(3, 'c', 'In Progress', 'LOW', 0), (4, 'd', 'Completed', 'urgent', 0)");
+
+            Flyway.configure().dataSource(URL, "sa", "").load().migrate();
+
+            try (ResultSet rows = statement.executeQuery("select status, priority from todo_entity order by id")) {
+                assertThat(rows.next()).isTrue();
+                assertThat(rows.getShort(1)).isEqualTo((short) 1);
+                assertThat(rows.getShort(2)).isEqualTo((short) 1);
+                assertThat(rows.next()).isTrue();
+                assertThat(rows.getShort(1)).isEqualTo((short) 3);
+                assertThat(rows.getShort(2)).isEqualTo((short) 2);
+                assertThat(rows.next()).isTrue();
+                assertThat(rows.getShort(1)).isEqualTo((short) 2);
+                assertThat(rows.getShort(2)).isEqualTo((short) 3);
+                assertThat(rows.next()).isTrue();
+                assertThat(rows.getShort(1)).isEqualTo((short) 3);
+                assertThat(rows.getObject(2)).isNull();
+            }
+        }
+    }
+
+    @Test
+    public void testBaselinesSchemaCreatedWithoutFlyway() throws SQLException {
+        String url = "jdbc:h2:mem:todo_baseline;DB_CLOSE_DELAY=-1";
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             Statement statement = connection.createStatement()) {
+            // Schema as ddl-auto update left it for the first TodoEntity, GenerationType.AUTO ids and no version
+            statement.executeUpdate("create sequence todo_entity_seq start with 1 increment by 50");
+            statement.executeUpdate("create table todo_entity (due_date date, created_at timestamp(6), id bigint not null, "
+                    + "updated_at timestamp(6), description varchar(255), priority varchar(255), status varchar(255), "
+                    + "title varchar(255), primary key (id))");
+            statement.executeUpdate("insert into todo_entity (id, title, status, priority) values "
+                    + "(1, 'a', 'DONE', 'LOW'), (51, 'b', 'Pending', 'High')");
+
+            Flyway.configure().dataSource(url, "sa", "").baselineOnMigrate(true).baselineVersion("0").load().migrate();
+
+            try (ResultSet rows = statement.executeQuery("select status, priority, version from todo_entity order by id")) {
+                assertThat(rows.next()).isTrue();
+                assertThat(rows.getShort(1)).isEqualTo((short) 3);
+                assertThat(rows.getShort(2)).isEqualTo((short) 3);
+                assertThat(rows.getLong(3)).isZero();
+                assertThat(rows.next()).isTrue();
+                assertThat(rows.getShort(1)).isEqualTo((short) 1);
+                assertThat(rows.getShort(2)).isEqualTo((short) 1);
+            }
+
+            // First id the pooled optimizer hands out from todo_seq, the 49 ids below the value it reads
+            long newId;
+            try (ResultSet next = statement.executeQuery("select next value for todo_seq")) {
+                assertThat(next.next()).isTrue();
+                newId = next.getLong(1) - 49;
+            }
+            assertThat(newId).isGreaterThan(51);
+            statement.executeUpdate("insert into todo_entity (id, title, status, priority, version) values (" + newId + ", 'c', 1, 1, 0)");
+            try (ResultSet count = statement.executeQuery("select count(*) from todo_entity")) {
+                assertThat(count.next()).isTrue();
+                assertThat(count.getLong(1)).isEqualTo(3);
+            }
+            try (ResultSet oldSequence = statement.executeQuery(
+                    "select count(*) from information_schema.sequences where sequence_name = 'TODO_ENTITY_SEQ'")) {
+                assertThat(oldSequence.next()).isTrue();
+                assertThat(oldSequence.getLong(1)).isZero();
+            }
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.example.todo.repository;
+
+import com.example.todo.entity.TodoEntity;
+import com.example.todo.model.TodoPriority;
+import com.example.todo.model.TodoStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * Runs H2 EXPLAIN against the SQL Hibernate generates for the repository finders
+ * and fails when a finder stops using its index
+ */
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.example.todo.repository.CapturingStatementInspector")
+class TodoRepositoryQueryPlanTest {
+
+    @Autowired
+    TodoRepository todoRepository;
+
+    @Autowired
+    DataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        todoRepository.save(new TodoEntity(0L,"Drive to airpot","Pick up Friends from airport",TodoStatus.PENDING,TodoPriority.HIGH,null,null,null,0L));
+        todoRepository.flush();
+        CapturingStatementInspector.clear();
+    }
+
+    @Test
+    public void testFindDtosByPriority_UsesIndex() throws SQLException {
+        todoRepository.findDtosByPriority(TodoPriority.HIGH);
+
+        assertThat(explain(CapturingStatementInspector.lastSelect(), TodoPriority.HIGH))
+                .containsIgnoringCase("IDX_TODO_PRIORITY_STATUS")
+                .doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    public void testFindDtosByPriorityAndStatus_UsesCompositeIndex() throws SQLException {
+        todoRepository.findDtosByPriorityAndStatus(TodoPriority.HIGH, TodoStatus.PENDING);
+
+        assertThat(explain(CapturingStatementInspector.lastSelect(), TodoPriority.HIGH, TodoStatus.PENDING))
+                .containsIgnoringCase("IDX_TODO_PRIORITY_STATUS")
+                .doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    public void testFindDueBetween_RangeScansDueDateIndex() throws SQLException {
+        LocalDate today = LocalDate.now();
+        todoRepository.findDueBetween(today, Long.MIN_VALUE, today.plusDays(8), Limit.of(51));
+
+        assertThat(explain(CapturingStatementInspector.lastSelect(), today, today.plusDays(8), today, Long.MIN_VALUE, 51))
+                .containsIgnoringCase("IDX_TODO_DUE_DATE")
+                .doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    public void testFindStatusPriorityByIdIn_LocksRows() {
+        long id = todoRepository.findAll().get(0).getId();
+
+        List<TodoIdStatusPriority> rows = todoRepository.findStatusPriorityByIdIn(List.of(id, id + 1));
+
+        assertThat(rows).extracting(TodoIdStatusPriority::getStatus).containsExactly(TodoStatus.PENDING);
+        assertThat(CapturingStatementInspector.lastSelect()).containsIgnoringCase("for update");
+    }
+
+    @Test
+    public void testCountByStatusAndPriority_ScansIndexOnly() throws SQLException {
+        todoRepository.countByStatusAndPriority();
+
+        assertThat(explain(CapturingStatementInspector.lastSelect()))
+                .containsIgnoringCase("IDX_TODO_PRIORITY_STATUS");
+    }
+
+    private String explain(String sql, Object... parameters) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             PreparedStatement statement = connection.prepareStatement("EXPLAIN " + sql)) {
+            for (int i = 0; i < parameters.length; i++) {
+                statement.setObject(i + 1, parameters[i]);
+            }
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getString(1);
+            }
+        }
+    }
+}
@@ -1,12 +1,22 @@
 package com.example.todo.repository;
 
 import com.example.todo.entity.TodoEntity;
+import com.example.todo.model.TodoDto;
+import com.example.todo.model.TodoPriority;
+import com.example.todo.model.TodoStatus;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import jakarta.persistence.EntityManager;
+import org.springframework.data.domain.Limit;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -16,21 +26,174 @@ class TodoRepositoryTest {
     @Autowired
     TodoRepository todoRepository;
 
+    @Autowired
+    EntityManager entityManager;
+
+
+    // The two High priority to-do and the Medium priority, Done one
+    private List<TodoEntity> highPriorityTodos;
+
+    private TodoEntity mediumPriorityTodo;
 
     @BeforeEach
     void setUp() {
-        todoRepository.save(new TodoEntity(1L,"Drive to airpot","Pick up Friends from airport","Pending","High",null,null,null));
-        todoRepository.save(new TodoEntity(2L,"Go to Market","Buy fruits","Pending","High",null,null,null));
-        todoRepository.save(new TodoEntity(3L,"Book Movie Tickets","Any Movies","Done","Medium",null,null,null));
+        highPriorityTodos = List.of(
+                todoRepository.save(new TodoEntity(1L,"Drive to airpot","Pick up Friends from airport",TodoStatus.PENDING,TodoPriority.HIGH,null,null,null,0L)),
+                todoRepository.save(new TodoEntity(2L,"Go to Market","Buy fruits",TodoStatus.PENDING,TodoPriority.HIGH,null,null,null,0L)));
+        mediumPriorityTodo = todoRepository.save(new TodoEntity(3L,"Book Movie Tickets","Any Movies",TodoStatus.DONE,TodoPriority.MEDIUM,null,null,null,0L));
+    }
+
+    @Test
+    public void testFindDtosAfterId_KeysetPage() {
+        List<TodoDto> firstPage = todoRepository.findDtosAfterId(Long.MIN_VALUE, Limit.of(2));
+        assertThat(firstPage).hasSize(2);
+
+        List<TodoDto> secondPage = todoRepository.findDtosAfterId(firstPage.get(1).getId(), Limit.of(2));
+        assertThat(secondPage).extracting(TodoDto::getTitle).containsExactly("Book Movie Tickets");
     }
 
     @Test
-    public void testFindByPriority() {
-        List<TodoEntity> highPriorityTodos = todoRepository.findByPriority("High");
+    public void testFindDtos_ProjectWithoutManagedEntities() {
+        entityManager.flush();
+        entityManager.clear();
+
+        List<TodoDto> firstPage = todoRepository.findDtosAfterId(Long.MIN_VALUE, Limit.of(2));
+        List<TodoDto> secondPage = todoRepository.findDtosAfterId(firstPage.get(1).getId(), Limit.of(2));
+        List<TodoDto> highPriorityTodos = todoRepository.findDtosByPriority(TodoPriority.HIGH);
+        List<TodoDto> doneMediumTodos = todoRepository.findDtosByPriorityAndStatus(TodoPriority.MEDIUM, TodoStatus.DONE);
 
-        assertThat(highPriorityTodos).isNotEmpty();
-        assertThat(highPriorityTodos).hasSize(2); // Expecting 2 todos with High priority
-        assertThat(highPriorityTodos).extracting(TodoEntity::getTitle)
+        assertThat(firstPage).extracting(TodoDto::getTitle).containsExactly("Drive to airpot", "Go to Market");
+        assertThat(secondPage).extracting(TodoDto::getTitle).containsExactly("Book Movie Tickets");
+        assertThat(highPriorityTodos).extracting(TodoDto::getTitle)
                 .containsExactlyInAnyOrder("Drive to airpot", "Go to Market");
+        assertThat(doneMediumTodos).singleElement().satisfies(todo -> {
+            assertThat(todo.getStatus()).isEqualTo(TodoStatus.DONE);
+            assertThat(todo.getVersion()).isEqualTo(0L);
+        });
+        // Nothing was loaded into the persistence context
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    public void testStreamAllByOrderByIdAsc() {
+        try (Stream<TodoEntity> todos = todoRepository.streamAllByOrderByIdAsc()) {
+            assertThat(todos.map(TodoEntity::getTitle))
+                    .containsExactly("Drive to airpot", "Go to Market", "Book Movie Tickets");
+        }
+    }
+
+    @Test
+    public void testFindVersionById_IncrementedOnUpdate() {
+        TodoEntity todo = mediumPriorityTodo;
+        assertThat(todoRepository.findVersionById(todo.getId())).isEqualTo(Optional.of(0L));
+
+        todo.setStatus(TodoStatus.PENDING);
+        todoRepository.saveAndFlush(todo);
+
+        assertThat(todoRepository.findVersionById(todo.getId())).isEqualTo(Optional.of(1L));
+    }
+
+    @Test
+    public void testPatchTodo_OnlyProvidedFieldsChange() {
+        TodoEntity todo = mediumPriorityTodo;
+        TodoDto changes = new TodoDto();
+        changes.setStatus(TodoStatus.PENDING);
+        LocalDateTime updatedAt = LocalDateTime.of(2024, 10, 28, 10, 0);
+
+        int updated = todoRepository.patchTodo(todo.getId(), 0L, changes, updatedAt);
+        entityManager.clear();
+
+        TodoEntity patched = todoRepository.findById(todo.getId()).orElseThrow();
+        assertThat(updated).isEqualTo(1);
+        assertThat(patched.getStatus()).isEqualTo(TodoStatus.PENDING);
+        assertThat(patched.getTitle()).isEqualTo("Book Movie Tickets");
+        assertThat(patched.getUpdatedAt()).isEqualTo(updatedAt);
+        assertThat(patched.getVersion()).isEqualTo(1L);
+    }
+
+    @Test
+    public void testPatchTodo_StaleVersionUpdatesNothing() {
+        TodoEntity todo = mediumPriorityTodo;
+        TodoDto changes = new TodoDto();
+        changes.setTitle("Book Concert Tickets");
+
+        int updated = todoRepository.patchTodo(todo.getId(), 5L, changes, LocalDateTime.now());
+
+        assertThat(updated).isZero();
+    }
+
+    @Test
+    public void testDeleteTodoById_ReturnsAffectedRows() {
+        long id = mediumPriorityTodo.getId();
+
+        assertThat(todoRepository.deleteTodoById(id)).isEqualTo(1);
+        assertThat(todoRepository.deleteTodoById(id)).isZero();
+    }
+
+    @Test
+    public void testBulkDeletes() {
+        List<Long> highIds = highPriorityTodos.stream().map(TodoEntity::getId).toList();
+
+        assertThat(todoRepository.deleteTodosByPriorityAndStatus(TodoPriority.MEDIUM, TodoStatus.PENDING)).isZero();
+        assertThat(todoRepository.deleteTodosByStatus(TodoStatus.DONE)).isEqualTo(1);
+        assertThat(todoRepository.deleteTodosByIdIn(highIds)).isEqualTo(2);
+        assertThat(todoRepository.count()).isZero();
+    }
+
+    @Test
+    public void testStatusAndPriorityStoredAsCodes() {
+        TodoEntity todo = mediumPriorityTodo;
+        entityManager.flush();
+
+        Object[] codes = (Object[]) entityManager
+                .createNativeQuery("select status, priority from todo_entity where id = :id")
+                .setParameter("id", todo.getId())
+                .getSingleResult();
+
+        assertThat(((Number) codes[0]).shortValue()).isEqualTo(TodoStatus.DONE.getCode());
+        assertThat(((Number) codes[1]).shortValue()).isEqualTo(TodoPriority.MEDIUM.getCode());
+    }
+
+    @Test
+    public void testFindDueBetween_KeysetByDueDateAndId() {
+        LocalDate today = LocalDate.now();
+        List<TodoEntity> todos = todoRepository.findAll();
+        todos.get(0).setDueDate(today.plusDays(2));
+        todos.get(1).setDueDate(today);
+        todos.get(2).setDueDate(today);
+        todoRepository.flush();
+
+        List<TodoEntity> firstPage = todoRepository.findDueBetween(today, Long.MIN_VALUE, today.plusDays(3), Limit.of(2));
+        TodoEntity last = firstPage.get(1);
+        List<TodoEntity> secondPage = todoRepository.findDueBetween(last.getDueDate(), last.getId(), today.plusDays(3), Limit.of(2));
+
+        assertThat(firstPage).extracting(TodoEntity::getId).containsExactly(todos.get(1).getId(), todos.get(2).getId());
+        assertThat(secondPage).extracting(TodoEntity::getId).containsExactly(todos.get(0).getId());
+        assertThat(todoRepository.findDueBetween(today, Long.MIN_VALUE, today.plusDays(1), Limit.of(10))).hasSize(2);
+    }
+
+    @Test
+    public void testFindDueBetweenExcludingStatus_SkipsDone() {
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        todoRepository.findAll().forEach(todo -> todo.setDueDate(yesterday));
+        todoRepository.flush();
+
+        List<TodoEntity> overdue = todoRepository.findDueBetweenExcludingStatus(LocalDate.of(1, 1, 1), Long.MIN_VALUE,
+                LocalDate.now(), TodoStatus.DONE, Limit.of(10));
+
+        assertThat(overdue).hasSize(2).allMatch(todo -> todo.getStatus() == TodoStatus.PENDING);
+    }
+
+    @Test
+    public void testCountByStatusAndPriority() {
+        List<TodoStatusPriorityCount> counts = todoRepository.countByStatusAndPriority();
+
+        assertThat(counts).hasSize(2);
+        assertThat(counts).filteredOn(count -> count.getStatus() == TodoStatus.PENDING)
+                .singleElement()
+                .satisfies(count -> {
+                    assertThat(count.getPriority()).isEqualTo(TodoPriority.HIGH);
+                    assertThat(count.getCount()).isEqualTo(2);
+                });
     }
-}
\ No newline at end of file
+}
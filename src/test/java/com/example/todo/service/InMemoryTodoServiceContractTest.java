@@ -0,0 +1,34 @@
+package com.example.todo.service;
+
+import com.example.todo.repository.InMemoryTodoStore;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.AopTestUtils;
+
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * TodoServiceContractTest against InMemoryTodoService, in an application context of the memory profile
+ */
+
+@SpringBootTest
+@ActiveProfiles({"dev", "memory"})
+class InMemoryTodoServiceContractTest extends TodoServiceContractTest {
+
+    @Autowired
+    InMemoryTodoStore todoStore;
+
+    @Override
+    void deleteAllTodos() {
+        todoStore.deleteAll();
+    }
+
+    @Test
+    void testMemoryProfileSelectsInMemoryService() {
+        assertInstanceOf(InMemoryTodoService.class, AopTestUtils.getUltimateTargetObject(todoService));
+    }
+}
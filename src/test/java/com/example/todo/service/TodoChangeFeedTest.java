@@ -0,0 +1,137 @@
+package com.example.todo.service;
+
+import com.example.todo.event.TodoChangeEvent;
+import com.example.todo.model.TodoDto;
+import com.example.todo.model.TodoPriority;
+import com.example.todo.model.TodoStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TodoChangeFeedTest {
+
+    private final List<RecordingEmitter> emitters = new ArrayList<>();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private TodoChangeFeed todoChangeFeed;
+
+    @BeforeEach
+    void setUp() {
+        todoChangeFeed = new TodoChangeFeed() {
+            @Override
+            SseEmitter newEmitter() {
+                RecordingEmitter emitter = new RecordingEmitter();
+                emitters.add(emitter);
+                return emitter;
+            }
+        };
+        ReflectionTestUtils.setField(todoChangeFeed, "objectMapper", new ObjectMapper().findAndRegisterModules());
+        ReflectionTestUtils.setField(todoChangeFeed, "meterRegistry", meterRegistry);
+        // Send on the publishing thread so the test sees every event right away
+        todoChangeFeed.senders = Runnable::run;
+        todoChangeFeed.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        todoChangeFeed.shutdown();
+    }
+
+    @Test
+    void testEventsPushedInOrder() {
+        todoChangeFeed.subscribe(null);
+
+        todoChangeFeed.onTodoChange(TodoChangeEvent.created(todo(7L)));
+        todoChangeFeed.onTodoChange(TodoChangeEvent.deleted(7L, TodoStatus.PENDING, TodoPriority.HIGH));
+
+        List<String> events = emitters.get(0).events;
+        assertEquals(2, events.size());
+        assertTrue(events.get(0).startsWith("id:1\ndata:"));
+        assertTrue(events.get(0).contains("\"type\":\"CREATED\""));
+        assertTrue(events.get(0).contains("\"title\":\"Drive to airport\""));
+        assertTrue(events.get(1).startsWith("id:2\ndata:"));
+        assertTrue(events.get(1).contains("\"type\":\"DELETED\""));
+        assertEquals(1.0, meterRegistry.get("todo.feed.subscribers").gauge().value());
+    }
+
+    @Test
+    void testResumeFromLastEventId() {
+        for (long id = 1; id <= 3; id++) {
+            todoChangeFeed.onTodoChange(TodoChangeEvent.created(todo(id)));
+        }
+
+        todoChangeFeed.subscribe("1");
+        todoChangeFeed.onTodoChange(TodoChangeEvent.deleted(1L, TodoStatus.PENDING, TodoPriority.HIGH));
+
+        List<String> ids = emitters.get(0).events.stream()
+                .map(event -> event.substring(0, event.indexOf('\n')))
+                .collect(Collectors.toList());
+        assertEquals(List.of("id:2", "id:3", "id:4"), ids);
+    }
+
+    @Test
+    void testResumeTooFarBehind_SendsReset() {
+        for (long id = 1; id <= TodoChangeFeed.RETAINED_EVENTS + 2; id++) {
+            todoChangeFeed.onTodoChange(TodoChangeEvent.deleted(id, TodoStatus.PENDING, TodoPriority.HIGH));
+        }
+
+        todoChangeFeed.subscribe("1");
+        todoChangeFeed.subscribe("not-an-id");
+
+        long lastEventId = TodoChangeFeed.RETAINED_EVENTS + 2;
+        for (RecordingEmitter emitter : emitters) {
+            assertEquals(List.of("id:" + lastEventId + "\nevent:reset\ndata:{\"lastEventId\":" + lastEventId + "}\n\n"), emitter.events);
+        }
+    }
+
+    @Test
+    void testSlowSubscriberDisconnected() {
+        List<Runnable> pendingSends = new ArrayList<>();
+        todoChangeFeed.senders = pendingSends::add;
+        todoChangeFeed.subscribe(null);
+
+        for (long id = 1; id <= TodoChangeFeed.SUBSCRIBER_BUFFER + 1; id++) {
+            todoChangeFeed.onTodoChange(TodoChangeEvent.deleted(id, TodoStatus.PENDING, TodoPriority.HIGH));
+        }
+
+        assertEquals(0, todoChangeFeed.subscriberCount());
+        assertEquals(1.0, meterRegistry.get("todo.feed.dropped").counter().count());
+        pendingSends.forEach(Runnable::run);
+        assertTrue(emitters.get(0).completed);
+        assertTrue(emitters.get(0).events.isEmpty());
+    }
+
+    private TodoDto todo(long id) {
+        return new TodoDto(id, "Drive to airport", null, TodoStatus.PENDING, TodoPriority.HIGH, null, null, null, 0L);
+    }
+
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<String> events = new ArrayList<>();
+
+        private boolean completed;
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            events.add(builder.build().stream()
+                    .map(data -> data.getData().toString())
+                    .collect(Collectors.joining()));
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+}
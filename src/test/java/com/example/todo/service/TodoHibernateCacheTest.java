@@ -0,0 +1,106 @@
+package com.example.todo.service;
+
+import com.example.todo.config.MetricsConfig;
+import com.example.todo.model.TodoDto;
+import com.example.todo.model.TodoPriority;
+import com.example.todo.model.TodoStatus;
+import com.example.todo.repository.TodoRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * Checks that the priority finders are served from the Hibernate query cache,
+ * that TodoServiceImpl writes invalidate it and that hit rates reach the metrics
+ */
+
+@SpringBootTest
+class TodoHibernateCacheTest {
+
+    @Autowired
+    TodoService todoService;
+
+    @Autowired
+    TodoRepository todoRepository;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        todoRepository.deleteAllInBatch();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void testGetTodoByPriority_SecondReadIsQueryCacheHit() {
+        todoService.createTodo(newTodo("Drive to airport", TodoStatus.PENDING));
+
+        todoService.getTodoByPriority(TodoPriority.HIGH);
+        List<TodoDto> cachedTodos = todoService.getTodoByPriority(TodoPriority.HIGH);
+
+        assertEquals(1, cachedTodos.size());
+        assertEquals(1, statistics.getQueryCacheMissCount());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+        assertEquals(1, meterRegistry.get(MetricsConfig.HIBERNATE_CACHE_REQUESTS)
+                .tags("cache", "query", "result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void testWrites_InvalidateQueryCache() {
+        TodoDto created = todoService.createTodo(newTodo("Drive to airport", TodoStatus.PENDING));
+        assertEquals(1, todoService.getTodoByPriorityAndStatus(TodoPriority.HIGH, TodoStatus.PENDING).size());
+
+        todoService.createTodo(newTodo("Book movie tickets", TodoStatus.PENDING));
+        assertEquals(2, todoService.getTodoByPriorityAndStatus(TodoPriority.HIGH, TodoStatus.PENDING).size());
+
+        TodoDto changes = new TodoDto();
+        changes.setStatus(TodoStatus.DONE);
+        changes.setVersion(created.getVersion());
+        todoService.patchTodoById(created.getId(), changes);
+        assertEquals(1, todoService.getTodoByPriorityAndStatus(TodoPriority.HIGH, TodoStatus.PENDING).size());
+
+        todoService.deleteTodoById(created.getId());
+        assertEquals(1, todoService.getTodoByPriority(TodoPriority.HIGH).size());
+
+        assertEquals(0, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    void testFindById_SecondLoadIsEntityCacheHit() {
+        long id = todoService.createTodo(newTodo("Drive to airport", TodoStatus.PENDING)).getId();
+        statistics.clear();
+
+        todoRepository.findById(id);
+        todoRepository.findById(id);
+
+        // The entity was put in the region when it was inserted
+        assertEquals(2, statistics.getSecondLevelCacheHitCount());
+        assertEquals(0, statistics.getSecondLevelCacheMissCount());
+    }
+
+    private TodoDto newTodo(String title, TodoStatus status) {
+        TodoDto todo = new TodoDto();
+        todo.setTitle(title);
+        todo.setPriority(TodoPriority.HIGH);
+        todo.setStatus(status);
+        return todo;
+    }
+}
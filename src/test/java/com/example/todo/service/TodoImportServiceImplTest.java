@@ -0,0 +1,125 @@
+package com.example.todo.service;
+
+import com.example.todo.model.TodoDto;
+import com.example.todo.model.TodoImportFormat;
+import com.example.todo.model.TodoImportReportDto;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.mockito.Spy;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class TodoImportServiceImplTest {
+
+    @InjectMocks
+    TodoImportServiceImpl todoImportService;
+
+    @Mock
+    TodoService todoService;
+
+    @Spy
+    ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Spy
+    Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void testImportNdjson_ValidAndRejectedRows() throws IOException {
+        String ndjson = """
+                {"title": "Drive to airport", "priority": "High", "dueDate": "2024-10-27"}
+
+                {"title": "", "priority": "High"}
+                {"title": "Broken
+                {"title": "Book movie tickets", "priority": "Low"}
+                """;
+
+        TodoImportReportDto report = todoImportService.importTodos(stream(ndjson), TodoImportFormat.NDJSON);
+
+        assertEquals(2, report.getImported());
+        assertEquals(2, report.getRejected());
+        assertEquals(3, report.getRejectedRows().get(0).getLine());
+        assertEquals("Please add Title", report.getRejectedRows().get(0).getMessage());
+        assertEquals(4, report.getRejectedRows().get(1).getLine());
+        assertTrue(report.getRejectedRows().get(1).getMessage().startsWith("Malformed JSON"));
+
+        ArgumentCaptor<List<TodoDto>> chunk = ArgumentCaptor.forClass(List.class);
+        verify(todoService, times(1)).createTodos(chunk.capture());
+        assertEquals(LocalDate.of(2024, 10, 27), chunk.getValue().get(0).getDueDate());
+    }
+
+    @Test
+    void testImportCsv_ValidAndRejectedRows() throws IOException {
+        String csv = """
+                title,description,status,priority,dueDate
+                Drive to airport,"Pick up friends, then home",Pending,High,2024-10-27
+                Go to Market,Buy fruits,Pending,,
+                Book movie tickets,Any movie,Done,Low,not-a-date
+                Call plumber,,Pending,Medium,
+                """;
+
+        TodoImportReportDto report = todoImportService.importTodos(stream(csv), TodoImportFormat.CSV);
+
+        assertEquals(2, report.getImported());
+        assertEquals(2, report.getRejected());
+        assertEquals("Please Set Priority", report.getRejectedRows().get(0).getMessage());
+        assertEquals(3, report.getRejectedRows().get(0).getLine());
+        assertTrue(report.getRejectedRows().get(1).getMessage().startsWith("Malformed CSV record"));
+
+        ArgumentCaptor<List<TodoDto>> chunk = ArgumentCaptor.forClass(List.class);
+        verify(todoService, times(1)).createTodos(chunk.capture());
+        assertEquals("Pick up friends, then home", chunk.getValue().get(0).getDescription());
+        assertEquals("Call plumber", chunk.getValue().get(1).getTitle());
+    }
+
+    @Test
+    void testImportCsv_UnreadableTailStopsImport() throws IOException {
+        String csv = "title,priority\nDrive to airport,High\n\"Unclosed quote,High\n";
+
+        TodoImportReportDto report = todoImportService.importTodos(stream(csv), TodoImportFormat.CSV);
+
+        assertEquals(1, report.getImported());
+        assertTrue(report.getRejected() >= 1);
+    }
+
+    @Test
+    void testImport_CommitsInChunks() throws IOException {
+        StringBuilder ndjson = new StringBuilder();
+        int rows = TodoImportServiceImpl.IMPORT_CHUNK_SIZE * 2 + 5;
+        for (int i = 0; i < rows; i++) {
+            ndjson.append("{\"title\": \"Task ").append(i).append("\", \"priority\": \"Low\"}\n");
+        }
+
+        TodoImportReportDto report = todoImportService.importTodos(stream(ndjson.toString()), TodoImportFormat.NDJSON);
+
+        assertEquals(rows, report.getImported());
+        assertEquals(3, report.getChunks().size());
+        assertEquals(5, report.getChunks().get(2).getImported());
+        assertEquals(rows, report.getChunks().get(2).getTotalImported());
+        verify(todoService, times(3)).createTodos(anyList());
+    }
+
+    private InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
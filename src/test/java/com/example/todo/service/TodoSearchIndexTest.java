@@ -0,0 +1,116 @@
+package com.example.todo.service;
+
+import com.example.todo.event.TodoChangeEvent;
+import com.example.todo.model.TodoBulkDeleteDto;
+import com.example.todo.model.TodoDto;
+import com.example.todo.model.TodoPageDto;
+import com.example.todo.model.TodoPriority;
+import com.example.todo.model.TodoStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+class TodoSearchIndexTest {
+
+    @InjectMocks
+    TodoSearchIndex todoSearchIndex;
+
+    @Mock
+    TodoService todoService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        todoSearchIndex.index(todo(1L, "Drive to airport", "Pick up friends from the airport", TodoStatus.PENDING));
+        todoSearchIndex.index(todo(2L, "Go to market", "Buy fruits before driving home", TodoStatus.DONE));
+        todoSearchIndex.index(todo(3L, "Book tickets", "Airport shuttle for the trip", TodoStatus.PENDING));
+    }
+
+    @Test
+    void testSearch_RanksTitleAndExactMatchesFirst() {
+        TodoSearchIndex.Hits hits = todoSearchIndex.search("airport", 0, 10);
+
+        assertEquals(List.of(1L, 3L), hits.getIds());
+        assertEquals(2, hits.getTotal());
+    }
+
+    @Test
+    void testSearch_PrefixAndAllTermsRequired() {
+        assertEquals(List.of(1L, 2L), todoSearchIndex.search("DRIV", 0, 10).getIds());
+        assertEquals(List.of(2L), todoSearchIndex.search("driv fruit", 0, 10).getIds());
+        assertTrue(todoSearchIndex.search("driv tickets", 0, 10).getIds().isEmpty());
+    }
+
+    @Test
+    void testSearch_Pagination() {
+        TodoSearchIndex.Hits secondPage = todoSearchIndex.search("the", 1, 1);
+
+        assertEquals(List.of(3L), secondPage.getIds());
+        assertEquals(2, secondPage.getTotal());
+        assertTrue(todoSearchIndex.search("the", 2, 1).getIds().isEmpty());
+    }
+
+    @Test
+    void testChangeEvents_KeepIndexCurrent() {
+        TodoDto changes = new TodoDto();
+        changes.setTitle("Drive to station");
+        todoSearchIndex.onTodoChange(TodoChangeEvent.patched(1L, changes, 1L, null, null));
+        todoSearchIndex.onTodoChange(TodoChangeEvent.deleted(3L, TodoStatus.PENDING, TodoPriority.HIGH));
+
+        assertTrue(todoSearchIndex.search("shuttle", 0, 10).getIds().isEmpty());
+        // description was not part of the patch and is still indexed
+        assertEquals(List.of(1L), todoSearchIndex.search("station friends", 0, 10).getIds());
+
+        todoSearchIndex.onTodoChange(TodoChangeEvent.bulkDeleted(new TodoBulkDeleteDto(null, TodoStatus.PENDING, null), 2));
+
+        assertEquals(1, todoSearchIndex.size());
+        assertTrue(todoSearchIndex.search("station", 0, 10).getIds().isEmpty());
+    }
+
+    @Test
+    void testIndex_IgnoresOlderVersion() {
+        TodoDto newer = todo(1L, "Drive to station", null, TodoStatus.PENDING);
+        newer.setVersion(2L);
+        todoSearchIndex.index(newer);
+        todoSearchIndex.index(todo(1L, "Drive to airport", null, TodoStatus.PENDING));
+
+        assertEquals(List.of(1L), todoSearchIndex.search("station", 0, 10).getIds());
+    }
+
+    @Test
+    void testRebuild_ReadsAllPages() {
+        List<TodoDto> firstPage = new ArrayList<>();
+        for (long id = 1; id <= TodoSearchIndex.REBUILD_BATCH_SIZE; id++) {
+            firstPage.add(new TodoDto(id, "Task " + id, null, TodoStatus.PENDING, TodoPriority.LOW, null, null, null, 0L));
+        }
+        String nextCursor = TodoCursor.encode(TodoSearchIndex.REBUILD_BATCH_SIZE);
+        when(todoService.getAllTodo(TodoCursor.encode(Long.MIN_VALUE), TodoSearchIndex.REBUILD_BATCH_SIZE))
+                .thenReturn(new TodoPageDto(firstPage, firstPage.size(), nextCursor));
+        when(todoService.getAllTodo(nextCursor, TodoSearchIndex.REBUILD_BATCH_SIZE)).thenReturn(new TodoPageDto(
+                List.of(todo(TodoSearchIndex.REBUILD_BATCH_SIZE + 1L, "Last task", null, TodoStatus.DONE)), 1, null));
+
+        assertEquals(TodoSearchIndex.REBUILD_BATCH_SIZE + 1, todoSearchIndex.rebuild());
+        assertEquals(TodoSearchIndex.REBUILD_BATCH_SIZE + 1, todoSearchIndex.search("task", 0, 1).getTotal());
+        assertTrue(todoSearchIndex.search("airport", 0, 10).getIds().isEmpty());
+    }
+
+    @Test
+    void testRebuild_EmptyStore() {
+        when(todoService.getAllTodo(TodoCursor.encode(Long.MIN_VALUE), TodoSearchIndex.REBUILD_BATCH_SIZE))
+                .thenReturn(new TodoPageDto(List.of(), 0, null));
+
+        assertEquals(0, todoSearchIndex.rebuild());
+    }
+
+    private TodoDto todo(long id, String title, String description, TodoStatus status) {
+        return new TodoDto(id, title, description, status, TodoPriority.HIGH, null, null, null, 0L);
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.todo.service;
+
+import com.example.todo.exceptions.InvalidTodoRequestException;
+import com.example.todo.model.TodoDto;
+import com.example.todo.model.TodoPriority;
+import com.example.todo.model.TodoSearchResultDto;
+import com.example.todo.model.TodoStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class TodoSearchServiceImplTest {
+
+    @InjectMocks
+    TodoSearchServiceImpl todoSearchService;
+
+    @Mock
+    TodoSearchIndex todoSearchIndex;
+
+    @Mock
+    TodoService todoService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void testSearchTodos_KeepsRankOrder() {
+        when(todoSearchIndex.search("air", 20, 20)).thenReturn(new TodoSearchIndex.Hits(List.of(3L, 1L, 2L), 43));
+        // 2 was deleted after it was ranked
+        when(todoService.getTodosByIds(List.of(3L, 1L, 2L))).thenReturn(List.of(
+                new TodoDto(3L, "Airport shuttle", null, TodoStatus.PENDING, TodoPriority.LOW, null, null, null, 0L),
+                new TodoDto(1L, "Drive to airport", null, TodoStatus.PENDING, TodoPriority.HIGH, null, null, null, 0L)));
+
+        TodoSearchResultDto result = todoSearchService.searchTodos("air", 1, null);
+
+        assertEquals(List.of(3L, 1L), result.getTodos().stream().map(todo -> todo.getId()).toList());
+        assertEquals(43, result.getTotal());
+        assertEquals(TodoSearchServiceImpl.DEFAULT_PAGE_SIZE, result.getSize());
+    }
+
+    @Test
+    void testSearchTodos_InvalidRequests() {
+        assertThrows(InvalidTodoRequestException.class, () -> todoSearchService.searchTodos(" ,. ", null, null));
+        assertThrows(InvalidTodoRequestException.class, () -> todoSearchService.searchTodos("air", -1, null));
+        assertThrows(InvalidTodoRequestException.class, () -> todoSearchService.searchTodos("air", 0, 0));
+        verifyNoInteractions(todoSearchIndex);
+    }
+}
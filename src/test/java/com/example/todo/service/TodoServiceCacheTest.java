@@ -0,0 +1,87 @@
+package com.example.todo.service;
+
+import com.example.todo.config.CacheConfig;
+import com.example.todo.entity.TodoEntity;
+import com.example.todo.model.TodoDto;
+import com.example.todo.model.TodoPriority;
+import com.example.todo.model.TodoStatus;
+import com.example.todo.repository.TodoIdStatusPriority;
+import com.example.todo.repository.TodoRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.cache.CacheManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * Checks that getToDoById is served from the cache and that writes invalidate it
+ */
+
+@SpringBootTest
+class TodoServiceCacheTest {
+
+    @Autowired
+    TodoService todoService;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    @MockBean
+    TodoRepository todoRepository;
+
+    private TodoEntity todoEntity;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CacheConfig.TODO_BY_ID_CACHE).clear();
+        todoEntity = new TodoEntity(1L,"Drive to airport","Pickup firends",TodoStatus.PENDING,TodoPriority.HIGH, null, LocalDateTime.now(),LocalDateTime.now(), 0L);
+        when(todoRepository.findById(1L)).thenReturn(Optional.of(todoEntity));
+    }
+
+    @Test
+    void testGetToDoById_SecondReadIsCached() {
+        todoService.getToDoById(1L);
+        TodoDto cachedTodo = todoService.getToDoById(1L);
+
+        assertEquals("Drive to airport", cachedTodo.getTitle());
+        verify(todoRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void testUpdateTodoById_EvictsCachedTodo() {
+        when(todoRepository.save(any(TodoEntity.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        todoService.getToDoById(1L);
+
+        TodoDto update = new TodoDto();
+        update.setTitle("Drive to station");
+        todoService.updateTodoById(1L, update);
+        TodoDto reloadedTodo = todoService.getToDoById(1L);
+
+        assertEquals("Drive to station", reloadedTodo.getTitle());
+        // once for the first read, once for the update and once for the read after eviction
+        verify(todoRepository, times(3)).findById(1L);
+    }
+
+    @Test
+    void testDeleteTodoById_EvictsCachedTodo() {
+        when(todoRepository.findStatusPriorityByIdIn(List.of(1L))).thenReturn(List.of(mock(TodoIdStatusPriority.class)));
+        when(todoRepository.deleteTodoById(1L)).thenReturn(1);
+        todoService.getToDoById(1L);
+
+        todoService.deleteTodoById(1L);
+
+        assertNull(cacheManager.getCache(CacheConfig.TODO_BY_ID_CACHE).get(1L));
+    }
+}
@@ -0,0 +1,287 @@
+package com.example.todo.service;
+
+import com.example.todo.exceptions.InvalidTodoRequestException;
+import com.example.todo.exceptions.TodoNotFoundException;
+import com.example.todo.exceptions.TodoPreconditionFailedException;
+import com.example.todo.exceptions.TodoVersionConflictException;
+import com.example.todo.model.TodoAgendaRange;
+import com.example.todo.model.TodoBulkDeleteDto;
+import com.example.todo.model.TodoDto;
+import com.example.todo.model.TodoPageDto;
+import com.example.todo.model.TodoPriority;
+import com.example.todo.model.TodoStatus;
+import com.example.todo.repository.TodoStatusPriorityCount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * Behaviour every TodoService implementation must have, run against each of them by a subclass
+ */
+
+abstract class TodoServiceContractTest {
+
+    @Autowired
+    TodoService todoService;
+
+    // Removes every to-do from the storage behind the service
+    abstract void deleteAllTodos();
+
+    @BeforeEach
+    void cleanStorage() {
+        deleteAllTodos();
+    }
+
+    @Test
+    void testCreateAndGetById() {
+        TodoDto created = todoService.createTodo(todo("Drive to airport", TodoPriority.HIGH, TodoStatus.PENDING, null));
+
+        TodoDto fetched = todoService.getToDoById(created.getId());
+
+        assertEquals("Drive to airport", fetched.getTitle());
+        assertEquals(TodoPriority.HIGH, fetched.getPriority());
+        assertEquals(0L, fetched.getVersion());
+        assertEquals(0L, todoService.getTodoVersion(created.getId()));
+    }
+
+    @Test
+    void testGetById_NotFound() {
+        assertThrows(TodoNotFoundException.class, () -> todoService.getToDoById(Long.MAX_VALUE));
+        assertThrows(TodoNotFoundException.class, () -> todoService.getTodoVersion(Long.MAX_VALUE));
+    }
+
+    @Test
+    void testCreateTodos_InRequestOrder() {
+        List<TodoDto> created = todoService.createTodos(List.of(
+                todo("First", TodoPriority.LOW, null, null),
+                todo("Second", TodoPriority.LOW, null, null)));
+
+        assertEquals(List.of("First", "Second"), created.stream().map(TodoDto::getTitle).toList());
+        assertTrue(created.get(0).getId() < created.get(1).getId());
+    }
+
+    @Test
+    void testGetAllTodo_KeysetPages() {
+        for (int i = 0; i < 5; i++) {
+            todoService.createTodo(todo("Todo " + i, TodoPriority.MEDIUM, TodoStatus.PENDING, null));
+        }
+
+        TodoPageDto firstPage = todoService.getAllTodo(null, 2);
+        TodoPageDto secondPage = todoService.getAllTodo(firstPage.getNextCursor(), 2);
+        TodoPageDto lastPage = todoService.getAllTodo(secondPage.getNextCursor(), 2);
+
+        assertEquals(List.of("Todo 0", "Todo 1"), titles(firstPage.getTodos()));
+        assertEquals(List.of("Todo 2", "Todo 3"), titles(secondPage.getTodos()));
+        assertEquals(List.of("Todo 4"), titles(lastPage.getTodos()));
+        assertNull(lastPage.getNextCursor());
+    }
+
+    @Test
+    void testGetAllTodo_SkipsDeletedTodos() {
+        List<TodoDto> created = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            created.add(todoService.createTodo(todo("Todo " + i, TodoPriority.MEDIUM, TodoStatus.PENDING, null)));
+        }
+        created.subList(0, 3).forEach(todo -> todoService.deleteTodoById(todo.getId()));
+
+        TodoPageDto page = todoService.getAllTodo(null, 2);
+
+        assertEquals(List.of("Todo 3", "Todo 4"), titles(page.getTodos()));
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void testGetAllTodo_EmptyAndInvalidRequests() {
+        assertThrows(TodoNotFoundException.class, () -> todoService.getAllTodo(null, null));
+        assertThrows(InvalidTodoRequestException.class, () -> todoService.getAllTodo("not-a-cursor", null));
+        assertThrows(InvalidTodoRequestException.class, () -> todoService.getAllTodo(null, 0));
+    }
+
+    @Test
+    void testGetAgenda_Ranges() {
+        LocalDate today = LocalDate.now();
+        todoService.createTodo(todo("Overdue", TodoPriority.HIGH, TodoStatus.PENDING, today.minusDays(2)));
+        todoService.createTodo(todo("Overdue but done", TodoPriority.HIGH, TodoStatus.DONE, today.minusDays(1)));
+        todoService.createTodo(todo("Today", TodoPriority.HIGH, TodoStatus.DONE, today));
+        todoService.createTodo(todo("In three days", TodoPriority.LOW, TodoStatus.PENDING, today.plusDays(3)));
+        todoService.createTodo(todo("Next month", TodoPriority.LOW, TodoStatus.PENDING, today.plusDays(30)));
+        todoService.createTodo(todo("No due date", TodoPriority.LOW, TodoStatus.PENDING, null));
+
+        assertEquals(List.of("Overdue"), titles(todoService.getAgenda(TodoAgendaRange.OVERDUE, null, null, null).getTodos()));
+        assertEquals(List.of("Today"), titles(todoService.getAgenda(TodoAgendaRange.TODAY, null, null, null).getTodos()));
+        assertEquals(List.of("Today", "In three days"), titles(todoService.getAgenda(TodoAgendaRange.UPCOMING, 7, null, null).getTodos()));
+
+        TodoPageDto firstPage = todoService.getAgenda(TodoAgendaRange.UPCOMING, 60, null, 2);
+        TodoPageDto secondPage = todoService.getAgenda(TodoAgendaRange.UPCOMING, 60, firstPage.getNextCursor(), 2);
+        assertEquals(List.of("Next month"), titles(secondPage.getTodos()));
+        assertNull(secondPage.getNextCursor());
+        assertThrows(InvalidTodoRequestException.class, () -> todoService.getAgenda(TodoAgendaRange.UPCOMING, -1, null, null));
+    }
+
+    @Test
+    void testGetAgenda_FollowsChangedDueDate() {
+        LocalDate today = LocalDate.now();
+        TodoDto moved = todoService.createTodo(todo("Moved", TodoPriority.HIGH, TodoStatus.PENDING, today.plusDays(5)));
+        todoService.createTodo(todo("Stays", TodoPriority.HIGH, TodoStatus.PENDING, today.plusDays(2)));
+
+        todoService.updateTodoById(moved.getId(), todo("Moved", TodoPriority.HIGH, TodoStatus.PENDING, today));
+
+        assertEquals(List.of("Moved", "Stays"), titles(todoService.getAgenda(TodoAgendaRange.UPCOMING, 7, null, null).getTodos()));
+    }
+
+    @Test
+    void testExportTodos_OneJsonLinePerTodo() throws Exception {
+        todoService.createTodo(todo("First", TodoPriority.LOW, null, null));
+        todoService.createTodo(todo("Second", TodoPriority.LOW, null, null));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        long exported = todoService.exportTodos(outputStream);
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, exported);
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].contains("\"title\":\"First\""));
+        assertTrue(lines[1].contains("\"title\":\"Second\""));
+    }
+
+    @Test
+    void testUpdateTodoById_MergesFieldsAndBumpsVersion() {
+        TodoDto created = todoService.createTodo(todo("Drive to airport", TodoPriority.HIGH, TodoStatus.PENDING, null));
+        TodoDto changes = new TodoDto();
+        changes.setStatus(TodoStatus.DONE);
+
+        TodoDto updated = todoService.updateTodoById(created.getId(), changes);
+
+        assertEquals("Drive to airport", updated.getTitle());
+        assertEquals(TodoStatus.DONE, updated.getStatus());
+        assertEquals(1L, updated.getVersion());
+        assertEquals(TodoStatus.DONE, todoService.getToDoById(created.getId()).getStatus());
+    }
+
+    @Test
+    void testUpdateTodoById_VersionMismatchAndNotFound() {
+        TodoDto created = todoService.createTodo(todo("Drive to airport", TodoPriority.HIGH, TodoStatus.PENDING, null));
+        TodoDto stale = todo("Stale", null, null, null);
+        stale.setVersion(7L);
+
+        assertThrows(TodoPreconditionFailedException.class, () -> todoService.updateTodoById(created.getId(), stale));
+        assertThrows(TodoNotFoundException.class, () -> todoService.updateTodoById(Long.MAX_VALUE, todo("x", null, null, null)));
+        assertEquals("Drive to airport", todoService.getToDoById(created.getId()).getTitle());
+    }
+
+    @Test
+    void testPatchTodoById() {
+        TodoDto created = todoService.createTodo(todo("Drive to airport", TodoPriority.HIGH, TodoStatus.PENDING, null));
+        TodoDto changes = new TodoDto();
+        changes.setPriority(TodoPriority.LOW);
+        changes.setVersion(0L);
+
+        assertEquals(1L, todoService.patchTodoById(created.getId(), changes));
+        assertEquals(TodoPriority.LOW, todoService.getToDoById(created.getId()).getPriority());
+        assertThrows(TodoVersionConflictException.class, () -> todoService.patchTodoById(created.getId(), changes));
+        assertThrows(TodoNotFoundException.class, () -> todoService.patchTodoById(Long.MAX_VALUE, changes));
+
+        changes.setVersion(null);
+        assertThrows(InvalidTodoRequestException.class, () -> todoService.patchTodoById(created.getId(), changes));
+    }
+
+    @Test
+    void testDeleteTodoById() {
+        TodoDto created = todoService.createTodo(todo("Drive to airport", TodoPriority.HIGH, TodoStatus.PENDING, null));
+
+        todoService.deleteTodoById(created.getId());
+
+        assertThrows(TodoNotFoundException.class, () -> todoService.getToDoById(created.getId()));
+        assertThrows(TodoNotFoundException.class, () -> todoService.deleteTodoById(created.getId()));
+    }
+
+    @Test
+    void testDeleteTodos_ByIdsAndByFilter() {
+        TodoDto first = todoService.createTodo(todo("First", TodoPriority.HIGH, TodoStatus.PENDING, null));
+        todoService.createTodo(todo("Second", TodoPriority.HIGH, TodoStatus.DONE, null));
+        todoService.createTodo(todo("Third", TodoPriority.LOW, TodoStatus.DONE, null));
+        todoService.createTodo(todo("Fourth", TodoPriority.LOW, TodoStatus.PENDING, null));
+
+        assertEquals(1, todoService.deleteTodos(new TodoBulkDeleteDto(List.of(first.getId(), Long.MAX_VALUE), null, null)));
+        assertEquals(1, todoService.deleteTodos(new TodoBulkDeleteDto(null, TodoStatus.DONE, TodoPriority.HIGH)));
+        assertEquals(1, todoService.deleteTodos(new TodoBulkDeleteDto(null, TodoStatus.DONE, null)));
+        assertEquals(1, todoService.deleteTodos(new TodoBulkDeleteDto(null, null, TodoPriority.LOW)));
+        assertThrows(TodoNotFoundException.class, () -> todoService.getAllTodo(null, null));
+
+        assertThrows(InvalidTodoRequestException.class, () -> todoService.deleteTodos(new TodoBulkDeleteDto(null, null, null)));
+        assertThrows(InvalidTodoRequestException.class,
+                () -> todoService.deleteTodos(new TodoBulkDeleteDto(List.of(1L), TodoStatus.DONE, null)));
+    }
+
+    @Test
+    void testGetTodoByPriorityAndStatus() {
+        todoService.createTodo(todo("First", TodoPriority.HIGH, TodoStatus.PENDING, null));
+        todoService.createTodo(todo("Second", TodoPriority.HIGH, TodoStatus.DONE, null));
+        TodoDto third = todoService.createTodo(todo("Third", TodoPriority.LOW, TodoStatus.PENDING, null));
+        TodoDto changes = new TodoDto();
+        changes.setPriority(TodoPriority.HIGH);
+        todoService.updateTodoById(third.getId(), changes);
+
+        assertThat(titles(todoService.getTodoByPriority(TodoPriority.HIGH))).containsExactlyInAnyOrder("First", "Second", "Third");
+        assertThat(titles(todoService.getTodoByPriorityAndStatus(TodoPriority.HIGH, TodoStatus.PENDING))).containsExactlyInAnyOrder("First", "Third");
+        assertThrows(TodoNotFoundException.class, () -> todoService.getTodoByPriority(TodoPriority.LOW));
+        assertThrows(TodoNotFoundException.class, () -> todoService.getTodoByPriorityAndStatus(TodoPriority.MEDIUM, TodoStatus.DONE));
+    }
+
+    @Test
+    void testGetTodosByIds_InRequestedOrder() {
+        TodoDto first = todoService.createTodo(todo("First", TodoPriority.HIGH, null, null));
+        TodoDto second = todoService.createTodo(todo("Second", TodoPriority.HIGH, null, null));
+
+        List<TodoDto> todos = todoService.getTodosByIds(List.of(second.getId(), Long.MAX_VALUE, first.getId()));
+
+        assertEquals(List.of("Second", "First"), titles(todos));
+    }
+
+    @Test
+    void testCountTodosByStatusAndPriority() {
+        todoService.createTodo(todo("First", TodoPriority.HIGH, TodoStatus.PENDING, null));
+        todoService.createTodo(todo("Second", TodoPriority.HIGH, TodoStatus.PENDING, null));
+        todoService.createTodo(todo("Third", TodoPriority.LOW, null, null));
+
+        List<TodoStatusPriorityCount> counts = todoService.countTodosByStatusAndPriority();
+
+        assertThat(counts).hasSize(2);
+        assertThat(counts).anySatisfy(count -> {
+            assertThat(count.getStatus()).isEqualTo(TodoStatus.PENDING);
+            assertThat(count.getPriority()).isEqualTo(TodoPriority.HIGH);
+            assertThat(count.getCount()).isEqualTo(2);
+        });
+        assertThat(counts).anySatisfy(count -> {
+            assertThat(count.getStatus()).isNull();
+            assertThat(count.getPriority()).isEqualTo(TodoPriority.LOW);
+            assertThat(count.getCount()).isEqualTo(1);
+        });
+    }
+
+    private TodoDto todo(String title, TodoPriority priority, TodoStatus status, LocalDate dueDate) {
+        TodoDto todo = new TodoDto();
+        todo.setTitle(title);
+        todo.setPriority(priority);
+        todo.setStatus(status);
+        todo.setDueDate(dueDate);
+        return todo;
+    }
+
+    private List<String> titles(List<TodoDto> todos) {
+        List<String> titles = new ArrayList<>(todos.size());
+        todos.forEach(todo -> titles.add(todo.getTitle()));
+        return titles;
+    }
+}
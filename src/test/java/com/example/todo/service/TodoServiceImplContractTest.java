@@ -0,0 +1,29 @@
+package com.example.todo.service;
+
+import com.example.todo.config.CacheConfig;
+import com.example.todo.repository.TodoRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * TodoServiceContractTest against TodoServiceImpl on H2
+ */
+
+@SpringBootTest
+class TodoServiceImplContractTest extends TodoServiceContractTest {
+
+    @Autowired
+    TodoRepository todoRepository;
+
+    @Autowired
+    CacheManager cacheManager;
+
+    @Override
+    void deleteAllTodos() {
+        todoRepository.deleteAllInBatch();
+        cacheManager.getCache(CacheConfig.TODO_BY_ID_CACHE).clear();
+    }
+}
@@ -1,24 +1,48 @@
 package com.example.todo.service;
 
 import com.example.todo.entity.TodoEntity;
+import com.example.todo.event.TodoChangeEvent;
+import com.example.todo.exceptions.InvalidTodoRequestException;
 import com.example.todo.exceptions.TodoNotFoundException;
+import com.example.todo.exceptions.TodoPreconditionFailedException;
+import com.example.todo.exceptions.TodoVersionConflictException;
+import com.example.todo.mapper.TodoMapper;
+import com.example.todo.model.TodoAgendaRange;
+import com.example.todo.model.TodoBulkDeleteDto;
 import com.example.todo.model.TodoDto;
+import com.example.todo.model.TodoPageDto;
+import com.example.todo.model.TodoPriority;
+import com.example.todo.model.TodoStatus;
+import com.example.todo.repository.TodoIdStatusPriority;
 import com.example.todo.repository.TodoRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-
+import org.mockito.Spy;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class TodoServiceImplTest {
@@ -29,6 +53,21 @@ class TodoServiceImplTest {
     @Mock
     TodoRepository todoRepository;
 
+    @Mock
+    TransactionTemplate transactionTemplate;
+
+    @Mock
+    EntityManager entityManager;
+
+    @Spy
+    ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    RecentWrites recentWrites = new RecentWrites();
+
     private TodoDto todoDto;
 
     private TodoEntity todoEntity;
@@ -36,8 +75,8 @@ class TodoServiceImplTest {
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
-        todoDto = new TodoDto(1L,"Drive to airport","Pickup firends","Pending","High", LocalDate.now(), LocalDateTime.now(),LocalDateTime.now());
-        todoEntity = new TodoEntity(1L,"Drive to airport","Pickup firends","Pending","High", LocalDate.now(), LocalDateTime.now(),LocalDateTime.now());
+        todoDto = new TodoDto(1L,"Drive to airport","Pickup firends",TodoStatus.PENDING,TodoPriority.HIGH, LocalDate.now(), LocalDateTime.now(),LocalDateTime.now(), null);
+        todoEntity = new TodoEntity(1L,"Drive to airport","Pickup firends",TodoStatus.PENDING,TodoPriority.HIGH, LocalDate.now(), LocalDateTime.now(),LocalDateTime.now(), 0L);
     }
 
     @Test
@@ -49,24 +88,135 @@ class TodoServiceImplTest {
         assertNotNull(newTodo);
         assertEquals(todoEntity.getId(), newTodo.getId());
         assertEquals("Drive to airport",newTodo.getTitle());
+        verify(eventPublisher).publishEvent(argThat((TodoChangeEvent event) ->
+                event.getType() == TodoChangeEvent.Type.CREATED && event.getTodo() == newTodo));
+    }
+
+    @Test
+    void testCreateTodos_CommitsInChunks() {
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(todoRepository.saveAll(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        List<TodoDto> todos = new ArrayList<>();
+        for (int i = 0; i < TodoServiceImpl.BULK_CHUNK_SIZE * 2 + 1; i++) {
+            todos.add(new TodoDto(0L,"Task " + i,"Imported",TodoStatus.PENDING,TodoPriority.LOW, null, null, null, null));
+        }
+
+        List<TodoDto> createdTodos = todoService.createTodos(todos);
+
+        assertEquals(todos.size(), createdTodos.size());
+        assertEquals("Task 0", createdTodos.get(0).getTitle());
+        verify(transactionTemplate, times(3)).execute(any());
+        verify(todoRepository, times(3)).saveAll(anyList());
+        verify(entityManager, times(3)).clear();
     }
 
     @Test
     void testGetAllTodo_TodoPresent() {
-        when(todoRepository.findAll()).thenReturn(Arrays.asList(todoEntity));
+        when(todoRepository.findDtosAfterId(Long.MIN_VALUE, Limit.of(TodoServiceImpl.DEFAULT_PAGE_SIZE + 1)))
+                .thenReturn(Arrays.asList(TodoMapper.toDto(todoEntity)));
+
+        TodoPageDto todoPage =todoService.getAllTodo(null, null);
+
+        assertEquals(1,todoPage.getTodos().size());
+        assertNull(todoPage.getNextCursor());
+        verify(todoRepository,times(1)).findDtosAfterId(Long.MIN_VALUE, Limit.of(TodoServiceImpl.DEFAULT_PAGE_SIZE + 1));
+    }
+
+    @Test
+    void testGetAllTodo_NextPage() {
+        TodoEntity todo2 = new TodoEntity(2L,"Book movie tickets", "Any movie", TodoStatus.PENDING, TodoPriority.HIGH, null,LocalDateTime.now(), LocalDateTime.now(), 0L);
+        TodoEntity todo3 = new TodoEntity(3L,"Any Task", "Any Description", TodoStatus.DONE, TodoPriority.LOW, null,LocalDateTime.now(), LocalDateTime.now(), 0L);
+        when(todoRepository.findDtosAfterId(Long.MIN_VALUE, Limit.of(3)))
+                .thenReturn(TodoMapper.toDtoList(List.of(todoEntity, todo2, todo3)));
+
+        TodoPageDto firstPage = todoService.getAllTodo(null, 2);
+
+        assertEquals(2, firstPage.getTodos().size());
+        assertNotNull(firstPage.getNextCursor());
+
+        when(todoRepository.findDtosAfterId(2L, Limit.of(3))).thenReturn(List.of(TodoMapper.toDto(todo3)));
+
+        TodoPageDto secondPage = todoService.getAllTodo(firstPage.getNextCursor(), 2);
+
+        assertEquals(1, secondPage.getTodos().size());
+        assertEquals(3L, secondPage.getTodos().get(0).getId());
+        assertNull(secondPage.getNextCursor());
+    }
+
+    @Test
+    void testGetAllTodo_PageSizeCapped() {
+        when(todoRepository.findDtosAfterId(anyLong(), any(Limit.class))).thenReturn(List.of(TodoMapper.toDto(todoEntity)));
+
+        todoService.getAllTodo(null, 1_000_000);
+
+        verify(todoRepository).findDtosAfterId(eq(Long.MIN_VALUE), eq(Limit.of(TodoServiceImpl.MAX_PAGE_SIZE + 1)));
+    }
+
+    @Test
+    void testGetAgenda_UpcomingNextPage() {
+        LocalDate today = LocalDate.now();
+        TodoEntity todo2 = new TodoEntity(2L,"Book movie tickets", "Any movie", TodoStatus.PENDING, TodoPriority.HIGH, today.plusDays(1),LocalDateTime.now(), LocalDateTime.now(), 0L);
+        TodoEntity todo3 = new TodoEntity(3L,"Any Task", "Any Description", TodoStatus.DONE, TodoPriority.LOW, today.plusDays(3),LocalDateTime.now(), LocalDateTime.now(), 0L);
+        todoEntity.setDueDate(today);
+        when(todoRepository.findDueBetween(today, Long.MIN_VALUE, today.plusDays(4), Limit.of(3)))
+                .thenReturn(List.of(todoEntity, todo2, todo3));
+
+        TodoPageDto firstPage = todoService.getAgenda(TodoAgendaRange.UPCOMING, 3, null, 2);
+
+        assertEquals(2, firstPage.getTodos().size());
+        assertNotNull(firstPage.getNextCursor());
 
-        List todoList =todoService.getAllTodo();
+        when(todoRepository.findDueBetween(today.plusDays(1), 2L, today.plusDays(4), Limit.of(3))).thenReturn(List.of(todo3));
 
-        assertEquals(1,todoList.size());
-        verify(todoRepository,times(1)).findAll();
+        TodoPageDto secondPage = todoService.getAgenda(TodoAgendaRange.UPCOMING, 3, firstPage.getNextCursor(), 2);
+
+        assertEquals(List.of(3L), secondPage.getTodos().stream().map(TodoDto::getId).toList());
+        assertNull(secondPage.getNextCursor());
+    }
+
+    @Test
+    void testGetAgenda_OverdueExcludesDone() {
+        LocalDate today = LocalDate.now();
+        when(todoRepository.findDueBetweenExcludingStatus(any(), anyLong(), any(), any(), any(Limit.class))).thenReturn(List.of());
+
+        TodoPageDto page = todoService.getAgenda(TodoAgendaRange.OVERDUE, null, null, null);
+
+        assertTrue(page.getTodos().isEmpty());
+        verify(todoRepository).findDueBetweenExcludingStatus(TodoServiceImpl.EARLIEST_DUE_DATE, Long.MIN_VALUE, today,
+                TodoStatus.DONE, Limit.of(TodoServiceImpl.DEFAULT_PAGE_SIZE + 1));
+    }
+
+    @Test
+    void testGetAgenda_TodayAndDaysBounds() {
+        LocalDate today = LocalDate.now();
+        when(todoRepository.findDueBetween(any(), anyLong(), any(), any(Limit.class))).thenReturn(List.of());
+
+        todoService.getAgenda(TodoAgendaRange.TODAY, 30, null, null);
+        todoService.getAgenda(TodoAgendaRange.UPCOMING, 100_000, null, null);
+
+        verify(todoRepository).findDueBetween(eq(today), eq(Long.MIN_VALUE), eq(today.plusDays(1)), any(Limit.class));
+        verify(todoRepository).findDueBetween(eq(today), eq(Long.MIN_VALUE), eq(today.plusDays(TodoServiceImpl.MAX_AGENDA_DAYS + 1)), any(Limit.class));
+        assertThrows(InvalidTodoRequestException.class, () -> todoService.getAgenda(TodoAgendaRange.UPCOMING, -1, null, null));
+        assertThrows(InvalidTodoRequestException.class, () -> todoService.getAgenda(TodoAgendaRange.TODAY, null, "not-a-cursor", null));
+    }
+
+    @Test
+    void testGetAllTodo_InvalidCursor() {
+        Exception exception = assertThrows(InvalidTodoRequestException.class, ()->{
+            todoService.getAllTodo("not-a-cursor", null);
+        });
+
+        assertEquals("Invalid cursor: not-a-cursor", exception.getMessage());
     }
 
     @Test
     void testGetAllTodo_TodoNotPresent() {
-        when(todoRepository.findAll()).thenReturn(Arrays.asList());
+        when(todoRepository.findDtosAfterId(anyLong(), any(Limit.class))).thenReturn(Arrays.asList());
 
         Exception exception = assertThrows(TodoNotFoundException.class, ()->{
-           todoService.getAllTodo();
+           todoService.getAllTodo(null, null);
         });
 
         String errorMSg = "No Todo items found";
@@ -75,11 +225,36 @@ class TodoServiceImplTest {
         assertEquals(actualMsg,errorMSg);
     }
 
+    @Test
+    void testExportTodos_WritesOneJsonLinePerTodo() throws Exception {
+        TodoEntity todo2 = new TodoEntity(2L,"Book movie tickets", "Any movie", TodoStatus.PENDING, TodoPriority.HIGH, null,LocalDateTime.now(), LocalDateTime.now(), 0L);
+        when(todoRepository.streamAllByOrderByIdAsc()).thenReturn(Stream.of(todoEntity, todo2));
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        long exported = todoService.exportTodos(outputStream);
+
+        String[] lines = outputStream.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, exported);
+        assertEquals(2, lines.length);
+        assertEquals("Book movie tickets", objectMapper.readValue(lines[1], TodoDto.class).getTitle());
+        verify(entityManager, times(1)).detach(todoEntity);
+        verify(entityManager, times(1)).detach(todo2);
+    }
+
+    @Test
+    void testExportTodos_NoTodos() throws Exception {
+        when(todoRepository.streamAllByOrderByIdAsc()).thenReturn(Stream.empty());
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+        assertEquals(0, todoService.exportTodos(outputStream));
+        assertEquals(0, outputStream.size());
+    }
+
     @Test
     void testGetToDoById_TodoPresent() {
         when(todoRepository.findById(anyLong())).thenReturn(Optional.of(todoEntity));
 
-        TodoDto fetchedTodo =   todoService.getToDoById(anyLong());
+        TodoDto fetchedTodo =   todoService.getToDoById(1L);
 
         assertEquals("Drive to airport",fetchedTodo.getTitle());
     }
@@ -98,19 +273,34 @@ class TodoServiceImplTest {
         assertEquals(errorMsg,actualMsg);
     }
 
+    @Test
+    void testGetTodosByIds_KeepsRequestedOrder() {
+        TodoEntity otherEntity = new TodoEntity(3L,"Book tickets",null,TodoStatus.DONE,TodoPriority.LOW, null, null, null, 0L);
+        when(todoRepository.findAllById(List.of(3L, 2L, 1L))).thenReturn(List.of(todoEntity, otherEntity));
+
+        List<TodoDto> todos = todoService.getTodosByIds(List.of(3L, 2L, 1L));
+
+        assertEquals(List.of(3L, 1L), todos.stream().map(TodoDto::getId).toList());
+    }
+
     @Test
     void testDeleteTodoById_TodoPresent() {
-        when(todoRepository.existsById(1L)).thenReturn(true);
+        when(todoRepository.findStatusPriorityByIdIn(List.of(1L))).thenReturn(List.of(row(1L, TodoStatus.DONE, TodoPriority.LOW)));
+        when(todoRepository.deleteTodoById(1L)).thenReturn(1);
 
         todoService.deleteTodoById(1L);
 
-        verify(todoRepository, times(1)).deleteById(1L);
+        verify(todoRepository, times(1)).deleteTodoById(1L);
+        verify(todoRepository, never()).existsById(anyLong());
+        verify(eventPublisher).publishEvent(argThat((TodoChangeEvent event) ->
+                event.getType() == TodoChangeEvent.Type.DELETED && event.getTodoId() == 1L
+                        && event.getPreviousStatus() == TodoStatus.DONE && event.getPreviousPriority() == TodoPriority.LOW));
     }
 
 
     @Test
     void testDeleteTodoById_TodoNotPresent() {
-        when(todoRepository.existsById(1L)).thenReturn(false);
+        when(todoRepository.findStatusPriorityByIdIn(List.of(1L))).thenReturn(List.of());
 
         Exception exception = assertThrows(TodoNotFoundException.class, ()->{
             todoService.deleteTodoById(1L);
@@ -120,13 +310,70 @@ class TodoServiceImplTest {
         String acutalMsg = exception.getMessage();
 
         assertEquals(expectedMsg,acutalMsg);
+        verify(todoRepository, never()).deleteTodoById(anyLong());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void testDeleteTodos_ByIdsInBatches() {
+        List<Long> ids = new ArrayList<>();
+        for (long id = 1; id <= TodoServiceImpl.DELETE_ID_BATCH_SIZE + 2; id++) {
+            ids.add(id);
+        }
+        long missingId = TodoServiceImpl.DELETE_ID_BATCH_SIZE + 2;
+        List<TodoIdStatusPriority> firstBatch = new ArrayList<>();
+        for (long id = 1; id <= TodoServiceImpl.DELETE_ID_BATCH_SIZE; id++) {
+            firstBatch.add(row(id, TodoStatus.PENDING, TodoPriority.HIGH));
+        }
+        when(todoRepository.findStatusPriorityByIdIn(anyList())).thenReturn(firstBatch)
+                .thenReturn(List.of(row(missingId - 1, TodoStatus.DONE, null)));
+        when(todoRepository.deleteTodosByIdIn(anyList())).thenReturn(TodoServiceImpl.DELETE_ID_BATCH_SIZE, 1);
+
+        int deleted = todoService.deleteTodos(new TodoBulkDeleteDto(ids, null, null));
+
+        assertEquals(TodoServiceImpl.DELETE_ID_BATCH_SIZE + 1, deleted);
+        verify(todoRepository, times(2)).deleteTodosByIdIn(anyList());
+        verify(todoRepository).deleteTodosByIdIn(List.of(missingId - 1));
+        verify(eventPublisher, times(TodoServiceImpl.DELETE_ID_BATCH_SIZE + 1)).publishEvent(any(TodoChangeEvent.class));
+        verify(eventPublisher, never()).publishEvent(argThat((TodoChangeEvent event) -> event.getTodoId() == missingId));
+        verify(eventPublisher).publishEvent(argThat((TodoChangeEvent event) ->
+                event.getTodoId() == missingId - 1 && event.getPreviousStatus() == TodoStatus.DONE && event.getPreviousPriority() == null));
+    }
+
+    @Test
+    void testDeleteTodos_ByPriorityAndStatus() {
+        when(todoRepository.deleteTodosByPriorityAndStatus(TodoPriority.HIGH, TodoStatus.DONE)).thenReturn(3);
+
+        assertEquals(3, todoService.deleteTodos(new TodoBulkDeleteDto(null, TodoStatus.DONE, TodoPriority.HIGH)));
+        verify(eventPublisher).publishEvent(argThat((TodoChangeEvent event) ->
+                event.getType() == TodoChangeEvent.Type.BULK_DELETED && event.getBulkDelete().getStatus() == TodoStatus.DONE));
+    }
+
+    @Test
+    void testDeleteTodos_ByStatus() {
+        when(todoRepository.deleteTodosByStatus(TodoStatus.DONE)).thenReturn(2);
+
+        assertEquals(2, todoService.deleteTodos(new TodoBulkDeleteDto(List.of(), TodoStatus.DONE, null)));
+        verify(todoRepository, never()).deleteTodosByPriority(any());
+    }
+
+    @Test
+    void testDeleteTodos_NoFilterRejected() {
+        assertThrows(InvalidTodoRequestException.class, () -> todoService.deleteTodos(new TodoBulkDeleteDto()));
+    }
+
+    @Test
+    void testDeleteTodos_IdsAndFilterRejected() {
+        assertThrows(InvalidTodoRequestException.class,
+                () -> todoService.deleteTodos(new TodoBulkDeleteDto(List.of(1L), TodoStatus.DONE, null)));
+        verifyNoInteractions(todoRepository);
     }
 
     @Test
     void testUpdateTodoById_TodoPresent() {
         // Arrange
-        TodoEntity existingTodoEntity = new TodoEntity(1L, "Book movie tickets", "Any movie", "Pending", "high", null, LocalDateTime.now(), LocalDateTime.now());
-        TodoDto updatedTodoDto = new TodoDto(1L, "Book movie tickets", "Any movie", "Pending", "high", null, LocalDateTime.now(), LocalDateTime.now());
+        TodoEntity existingTodoEntity = new TodoEntity(1L, "Book movie tickets", "Any movie", TodoStatus.PENDING, TodoPriority.HIGH, null, LocalDateTime.now(), LocalDateTime.now(), 0L);
+        TodoDto updatedTodoDto = new TodoDto(1L, "Book movie tickets", "Any movie", TodoStatus.PENDING, TodoPriority.HIGH, null, LocalDateTime.now(), LocalDateTime.now(), null);
 
         when(todoRepository.findById(1L)).thenReturn(Optional.of(existingTodoEntity));
         when(todoRepository.save(any(TodoEntity.class))).thenReturn(existingTodoEntity);
@@ -134,16 +381,98 @@ class TodoServiceImplTest {
         TodoDto result = todoService.updateTodoById(1L, updatedTodoDto);
 
         assertNotNull(result);
-        assertEquals("high", result.getPriority());
+        assertEquals(TodoPriority.HIGH, result.getPriority());
         assertEquals(1L, result.getId());
         assertEquals("Book movie tickets", result.getTitle());
         verify(todoRepository, times(1)).findById(1L);
         verify(todoRepository, times(1)).save(any(TodoEntity.class));
     }
 
+    @Test
+    void testUpdateTodoById_VersionMismatch() {
+        TodoEntity existingTodoEntity = new TodoEntity(1L, "Book movie tickets", "Any movie", TodoStatus.PENDING, TodoPriority.HIGH, null, LocalDateTime.now(), LocalDateTime.now(), 3L);
+        TodoDto staleTodoDto = new TodoDto(1L, "Book movie tickets", "Any movie", TodoStatus.DONE, TodoPriority.HIGH, null, null, null, 2L);
+        when(todoRepository.findById(1L)).thenReturn(Optional.of(existingTodoEntity));
+
+        Exception exception = assertThrows(TodoPreconditionFailedException.class, ()->{
+            todoService.updateTodoById(1L, staleTodoDto);
+        });
+
+        assertEquals("Todo task with ID: 1 has been modified, current version: 3", exception.getMessage());
+        verify(todoRepository, never()).save(any(TodoEntity.class));
+    }
+
+    @Test
+    void testPatchTodoById_Success() {
+        TodoDto changes = new TodoDto();
+        changes.setStatus(TodoStatus.DONE);
+        changes.setVersion(2L);
+        when(todoRepository.findStatusPriorityByIdIn(List.of(1L))).thenReturn(List.of(row(1L, TodoStatus.PENDING, TodoPriority.HIGH)));
+        when(todoRepository.patchTodo(eq(1L), eq(2L), eq(changes), any(LocalDateTime.class))).thenReturn(1);
+
+        assertEquals(3L, todoService.patchTodoById(1L, changes));
+        verify(todoRepository, never()).findById(anyLong());
+        verify(todoRepository, never()).existsById(anyLong());
+        verify(eventPublisher).publishEvent(argThat((TodoChangeEvent event) ->
+                event.getType() == TodoChangeEvent.Type.PATCHED && event.getTodoId() == 1L && event.getVersion() == 3L
+                        && event.getPreviousStatus() == TodoStatus.PENDING && event.getPreviousPriority() == TodoPriority.HIGH));
+    }
+
+    @Test
+    void testPatchTodoById_TitleOnlyReadsNoPreviousValues() {
+        TodoDto changes = new TodoDto();
+        changes.setTitle("Drive to station");
+        changes.setVersion(2L);
+        when(todoRepository.patchTodo(eq(1L), eq(2L), eq(changes), any(LocalDateTime.class))).thenReturn(1);
+
+        assertEquals(3L, todoService.patchTodoById(1L, changes));
+        verify(todoRepository, never()).findStatusPriorityByIdIn(anyList());
+    }
+
+    @Test
+    void testPatchTodoById_VersionConflict() {
+        TodoDto changes = new TodoDto();
+        changes.setVersion(2L);
+        when(todoRepository.patchTodo(eq(1L), eq(2L), eq(changes), any(LocalDateTime.class))).thenReturn(0);
+        when(todoRepository.existsById(1L)).thenReturn(true);
+
+        Exception exception = assertThrows(TodoVersionConflictException.class, () -> todoService.patchTodoById(1L, changes));
+
+        assertEquals("Todo task with ID: 1 is no longer at version 2", exception.getMessage());
+    }
+
+    @Test
+    void testPatchTodoById_TodoNotPresent() {
+        TodoDto changes = new TodoDto();
+        changes.setVersion(2L);
+        when(todoRepository.patchTodo(eq(1L), eq(2L), eq(changes), any(LocalDateTime.class))).thenReturn(0);
+        when(todoRepository.existsById(1L)).thenReturn(false);
+
+        assertThrows(TodoNotFoundException.class, () -> todoService.patchTodoById(1L, changes));
+    }
+
+    @Test
+    void testPatchTodoById_VersionMissing() {
+        assertThrows(InvalidTodoRequestException.class, () -> todoService.patchTodoById(1L, new TodoDto()));
+    }
+
+    @Test
+    void testGetTodoVersion() {
+        when(todoRepository.findVersionById(1L)).thenReturn(Optional.of(7L));
+
+        assertEquals(7L, todoService.getTodoVersion(1L));
+    }
+
+    @Test
+    void testGetTodoVersion_TodoNotPresent() {
+        when(todoRepository.findVersionById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(TodoNotFoundException.class, () -> todoService.getTodoVersion(1L));
+    }
+
     @Test
     void testUpdateTodoById_TodoNotPresent() {
-        TodoDto updatedTodoDto = new TodoDto(1L,"Book movie tickets", "Any movie", "Pending", "high", null,LocalDateTime.now(), LocalDateTime.now());
+        TodoDto updatedTodoDto = new TodoDto(1L,"Book movie tickets", "Any movie", TodoStatus.PENDING, TodoPriority.HIGH, null,LocalDateTime.now(), LocalDateTime.now(), null);
         when(todoRepository.findById(1L)).thenReturn(Optional.empty());
 
         Exception exception = assertThrows(TodoNotFoundException.class,()->{
@@ -159,35 +488,35 @@ class TodoServiceImplTest {
 
     @Test
     void testGetTodoByPriority_TodoPresent() {
-        TodoEntity todo1 = new TodoEntity(1L,"Drive to airport","Pickup firends","Pending","High", LocalDate.now(), LocalDateTime.now(),LocalDateTime.now());
-        TodoEntity todo2 = new TodoEntity(2L,"Book movie tickets", "Any movie", "Pending", "High", null,LocalDateTime.now(), LocalDateTime.now());
-        TodoEntity todo3 = new TodoEntity(3L,"Any Task", "Any Description", "Completed", "Low", null,LocalDateTime.now(), LocalDateTime.now());
+        TodoEntity todo1 = new TodoEntity(1L,"Drive to airport","Pickup firends",TodoStatus.PENDING,TodoPriority.HIGH, LocalDate.now(), LocalDateTime.now(),LocalDateTime.now(), 0L);
+        TodoEntity todo2 = new TodoEntity(2L,"Book movie tickets", "Any movie", TodoStatus.PENDING, TodoPriority.HIGH, null,LocalDateTime.now(), LocalDateTime.now(), 0L);
+        TodoEntity todo3 = new TodoEntity(3L,"Any Task", "Any Description", TodoStatus.DONE, TodoPriority.LOW, null,LocalDateTime.now(), LocalDateTime.now(), 0L);
         List todoList = new ArrayList();
         todoList.add(todo1);
         todoList.add(todo2);
         todoList.add(todo3);
 
-        when(todoRepository.findByPriority("High")).thenReturn(List.of(todo1,todo2));
+        when(todoRepository.findDtosByPriority(TodoPriority.HIGH)).thenReturn(TodoMapper.toDtoList(List.of(todo1,todo2)));
 
-        List todoListWithHighPriority = todoService.getTodoByPriority("High");
+        List todoListWithHighPriority = todoService.getTodoByPriority(TodoPriority.HIGH);
 
         assertEquals(2,todoListWithHighPriority.size());
     }
 
     @Test
     void testGetTodoByPriority_TodoNotPresent() {
-        TodoEntity todo1 = new TodoEntity(1L,"Drive to airport","Pickup firends","Pending","High", LocalDate.now(), LocalDateTime.now(),LocalDateTime.now());
-        TodoEntity todo2 = new TodoEntity(2L,"Book movie tickets", "Any movie", "Pending", "High", null,LocalDateTime.now(), LocalDateTime.now());
-        TodoEntity todo3 = new TodoEntity(3L,"Any Task", "Any Description", "Completed", "Low", null,LocalDateTime.now(), LocalDateTime.now());
+        TodoEntity todo1 = new TodoEntity(1L,"Drive to airport","Pickup firends",TodoStatus.PENDING,TodoPriority.HIGH, LocalDate.now(), LocalDateTime.now(),LocalDateTime.now(), 0L);
+        TodoEntity todo2 = new TodoEntity(2L,"Book movie tickets", "Any movie", TodoStatus.PENDING, TodoPriority.HIGH, null,LocalDateTime.now(), LocalDateTime.now(), 0L);
+        TodoEntity todo3 = new TodoEntity(3L,"Any Task", "Any Description", TodoStatus.DONE, TodoPriority.LOW, null,LocalDateTime.now(), LocalDateTime.now(), 0L);
         List todoList = new ArrayList();
         todoList.add(todo1);
         todoList.add(todo2);
         todoList.add(todo3);
 
-        when(todoRepository.findByPriority("High")).thenReturn(List.of());
+        when(todoRepository.findDtosByPriority(TodoPriority.HIGH)).thenReturn(List.of());
 
         Exception exception = assertThrows(TodoNotFoundException.class,()->{
-            todoService.getTodoByPriority("High");
+            todoService.getTodoByPriority(TodoPriority.HIGH);
         });
 
 
@@ -196,4 +525,44 @@ class TodoServiceImplTest {
 
         assertEquals(expectedMsg,acutalMsg);
     }
-}
\ No newline at end of file
+
+    @Test
+    void testGetTodoByPriorityAndStatus_TodoPresent() {
+        when(todoRepository.findDtosByPriorityAndStatus(TodoPriority.HIGH, TodoStatus.PENDING)).thenReturn(List.of(TodoMapper.toDto(todoEntity)));
+
+        List<TodoDto> todoList = todoService.getTodoByPriorityAndStatus(TodoPriority.HIGH, TodoStatus.PENDING);
+
+        assertEquals(1, todoList.size());
+        assertEquals("Drive to airport", todoList.get(0).getTitle());
+    }
+
+    @Test
+    void testGetTodoByPriorityAndStatus_TodoNotPresent() {
+        when(todoRepository.findDtosByPriorityAndStatus(TodoPriority.HIGH, TodoStatus.DONE)).thenReturn(List.of());
+
+        Exception exception = assertThrows(TodoNotFoundException.class,()->{
+            todoService.getTodoByPriorityAndStatus(TodoPriority.HIGH, TodoStatus.DONE);
+        });
+
+        assertEquals("No Todos found with priority: High and status: Done", exception.getMessage());
+    }
+
+    private static TodoIdStatusPriority row(long id, TodoStatus status, TodoPriority priority) {
+        return new TodoIdStatusPriority() {
+            @Override
+            public long getId() {
+                return id;
+            }
+
+            @Override
+            public TodoStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public TodoPriority getPriority() {
+                return priority;
+            }
+        };
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.todo.service;
+
+import com.example.todo.config.MetricsConfig;
+import com.example.todo.exceptions.TodoNotFoundException;
+import com.example.todo.model.TodoDto;
+import com.example.todo.model.TodoPriority;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/*
+ * Author: Sachin Hol
+ * Date: 18-Oct-26
+ * Checks that TodoService and TodoRepository calls are recorded in the meter registry
+ */
+
+@SpringBootTest
+class TodoServiceMetricsTest {
+
+    @Autowired
+    TodoService todoService;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    @Test
+    void testServiceAndRepositoryCallsAreTimed() {
+        TodoDto todo = new TodoDto();
+        todo.setTitle("Drive to airport");
+        todo.setPriority(TodoPriority.HIGH);
+        todoService.createTodo(todo);
+
+        Timer serviceTimer = meterRegistry.find(MetricsConfig.SERVICE_TIMER).tag("method", "createTodo").timer();
+        assertNotNull(serviceTimer);
+        assertTrue(serviceTimer.count() >= 1);
+
+        Timer repositoryTimer = meterRegistry.find("spring.data.repository.invocations").tag("method", "save").timer();
+        assertNotNull(repositoryTimer);
+        assertTrue(repositoryTimer.count() >= 1);
+    }
+
+    @Test
+    void testNotFoundOutcomeIsCounted() {
+        double before = notFoundCount();
+
+        assertThrows(TodoNotFoundException.class, () -> todoService.getToDoById(-1L));
+
+        assertEquals(before + 1, notFoundCount());
+    }
+
+    private double notFoundCount() {
+        Counter counter = meterRegistry.find(MetricsConfig.SERVICE_FAILURES)
+                .tag("method", "getToDoById")
+                .tag("exception", "TodoNotFoundException")
+                .counter();
+        return counter == null ? 0 : counter.count();
+    }
+}
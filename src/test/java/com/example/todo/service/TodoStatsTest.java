@@ -0,0 +1,177 @@
+package com.example.todo.service;
+
+import com.example.todo.event.TodoChangeEvent;
+import com.example.todo.model.TodoBulkDeleteDto;
+import com.example.todo.model.TodoDto;
+import com.example.todo.model.TodoPriority;
+import com.example.todo.model.TodoStatsDto;
+import com.example.todo.model.TodoStatus;
+import com.example.todo.repository.TodoStatusPriorityCount;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class TodoStatsTest {
+
+    @InjectMocks
+    TodoStats todoStats;
+
+    @Mock
+    TodoService todoService;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(todoService.countTodosByStatusAndPriority()).thenReturn(List.of(
+                count(TodoStatus.PENDING, TodoPriority.HIGH, 2),
+                count(TodoStatus.DONE, TodoPriority.MEDIUM, 1)));
+        todoStats.afterSingletonsInstantiated();
+    }
+
+    @Test
+    void testGetStats_SeededFromGroupedQuery() {
+        TodoStatsDto stats = todoStats.getStats();
+
+        assertEquals(3, stats.getTotal());
+        assertEquals(2L, stats.getByStatus().get(TodoStatus.PENDING));
+        assertEquals(0L, stats.getByStatus().get(TodoStatus.IN_PROGRESS));
+        assertEquals(1L, stats.getByPriority().get(TodoPriority.MEDIUM));
+        assertNotNull(stats.getReconciledAt());
+    }
+
+    @Test
+    void testOnTodoChange_CreateAndUpdateAdjustCounters() {
+        todoStats.onTodoChange(TodoChangeEvent.created(todo(TodoStatus.PENDING, TodoPriority.LOW)));
+        todoStats.onTodoChange(TodoChangeEvent.updated(todo(TodoStatus.DONE, TodoPriority.HIGH), TodoStatus.PENDING, TodoPriority.HIGH));
+
+        TodoStatsDto stats = todoStats.getStats();
+        assertEquals(4, stats.getTotal());
+        assertEquals(2L, stats.getByStatus().get(TodoStatus.PENDING));
+        assertEquals(2L, stats.getByStatus().get(TodoStatus.DONE));
+        assertEquals(1L, stats.getByPriority().get(TodoPriority.LOW));
+        assertEquals(2L, stats.getByPriority().get(TodoPriority.HIGH));
+
+        todoStats.reconcileIfDirty();
+        verify(todoService, times(1)).countTodosByStatusAndPriority();
+    }
+
+    @Test
+    void testOnTodoChange_BulkDeleteByStatusAndPriority() {
+        todoStats.onTodoChange(TodoChangeEvent.bulkDeleted(new TodoBulkDeleteDto(null, TodoStatus.PENDING, TodoPriority.HIGH), 2));
+
+        TodoStatsDto stats = todoStats.getStats();
+        assertEquals(1, stats.getTotal());
+        assertEquals(0L, stats.getByStatus().get(TodoStatus.PENDING));
+    }
+
+    @Test
+    void testOnTodoChange_DeleteAndPatchAdjustCountersWithoutRecount() {
+        todoStats.onTodoChange(TodoChangeEvent.deleted(3L, TodoStatus.DONE, TodoPriority.MEDIUM));
+        TodoDto changes = new TodoDto();
+        changes.setStatus(TodoStatus.IN_PROGRESS);
+        todoStats.onTodoChange(TodoChangeEvent.patched(1L, changes, 2L, TodoStatus.PENDING, TodoPriority.HIGH));
+        todoStats.reconcileIfDirty();
+
+        TodoStatsDto stats = todoStats.getStats();
+        assertEquals(2, stats.getTotal());
+        assertEquals(0L, stats.getByStatus().get(TodoStatus.DONE));
+        assertEquals(1L, stats.getByStatus().get(TodoStatus.PENDING));
+        assertEquals(1L, stats.getByStatus().get(TodoStatus.IN_PROGRESS));
+        assertEquals(2L, stats.getByPriority().get(TodoPriority.HIGH));
+        assertEquals(0L, stats.getByPriority().get(TodoPriority.MEDIUM));
+        verify(todoService, times(1)).countTodosByStatusAndPriority();
+    }
+
+    @Test
+    void testOnTodoChange_BulkDeleteByStatusRecountsOnNextCheck() {
+        when(todoService.countTodosByStatusAndPriority()).thenReturn(List.of(count(TodoStatus.PENDING, TodoPriority.HIGH, 2)));
+
+        todoStats.onTodoChange(TodoChangeEvent.bulkDeleted(new TodoBulkDeleteDto(null, TodoStatus.DONE, null), 1));
+        assertEquals(3, todoStats.getStats().getTotal());
+
+        todoStats.reconcileIfDirty();
+        todoStats.reconcileIfDirty();
+
+        assertEquals(2, todoStats.getStats().getTotal());
+        assertEquals(0L, todoStats.getStats().getByStatus().get(TodoStatus.DONE));
+        verify(todoService, times(2)).countTodosByStatusAndPriority();
+    }
+
+    @Test
+    void testOnTodoChange_PatchWithoutStatusOrPriorityKeepsCounters() {
+        TodoDto changes = new TodoDto();
+        changes.setTitle("Renamed");
+
+        todoStats.onTodoChange(TodoChangeEvent.patched(1L, changes, 2L, null, null));
+        todoStats.reconcileIfDirty();
+
+        verify(todoService, times(1)).countTodosByStatusAndPriority();
+    }
+
+    @Test
+    void testReconcile_CorrectsDrift() {
+        todoStats.onTodoChange(TodoChangeEvent.created(todo(TodoStatus.IN_PROGRESS, TodoPriority.LOW)));
+
+        todoStats.reconcile();
+
+        TodoStatsDto stats = todoStats.getStats();
+        assertEquals(3, stats.getTotal());
+        assertEquals(0L, stats.getByStatus().get(TodoStatus.IN_PROGRESS));
+    }
+
+    @Test
+    void testReconcile_ChangeDuringRecountMarksDirty() {
+        // The create commits while the query runs and is already part of its result
+        when(todoService.countTodosByStatusAndPriority()).thenAnswer(invocation -> {
+            todoStats.onTodoChange(TodoChangeEvent.created(todo(TodoStatus.DONE, TodoPriority.LOW)));
+            return List.of(count(TodoStatus.PENDING, TodoPriority.HIGH, 2), count(TodoStatus.DONE, TodoPriority.LOW, 1));
+        });
+
+        todoStats.reconcile();
+
+        when(todoService.countTodosByStatusAndPriority()).thenReturn(List.of(
+                count(TodoStatus.PENDING, TodoPriority.HIGH, 2), count(TodoStatus.DONE, TodoPriority.LOW, 1)));
+        todoStats.reconcileIfDirty();
+
+        assertEquals(3, todoStats.getStats().getTotal());
+        // Seed, the racing recount and the recount it triggered
+        verify(todoService, times(3)).countTodosByStatusAndPriority();
+        todoStats.reconcileIfDirty();
+        verify(todoService, times(3)).countTodosByStatusAndPriority();
+    }
+
+    private TodoDto todo(TodoStatus status, TodoPriority priority) {
+        TodoDto todo = new TodoDto();
+        todo.setId(10L);
+        todo.setVersion(0L);
+        todo.setStatus(status);
+        todo.setPriority(priority);
+        return todo;
+    }
+
+    private TodoStatusPriorityCount count(TodoStatus status, TodoPriority priority, long count) {
+        return new TodoStatusPriorityCount() {
+            @Override
+            public TodoStatus getStatus() {
+                return status;
+            }
+
+            @Override
+            public TodoPriority getPriority() {
+                return priority;
+            }
+
+            @Override
+            public long getCount() {
+                return count;
+            }
+        };
+    }
+}
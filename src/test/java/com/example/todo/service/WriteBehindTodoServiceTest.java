@@ -0,0 +1,199 @@
+package com.example.todo.service;
+
+import com.example.todo.config.CacheConfig;
+import com.example.todo.exceptions.TodoNotFoundException;
+import com.example.todo.model.TodoBulkDeleteDto;
+import com.example.todo.model.TodoDto;
+import com.example.todo.model.TodoPriority;
+import com.example.todo.model.TodoStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class WriteBehindTodoServiceTest {
+
+    private final TodoService delegate = mock(TodoService.class);
+
+    private final PlatformTransactionManager transactionManager = mock(PlatformTransactionManager.class);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final ConcurrentMapCacheManager cacheManager = new ConcurrentMapCacheManager(CacheConfig.TODO_BY_ID_CACHE);
+
+    private WriteBehindTodoService writeBehindTodoService;
+
+    @BeforeEach
+    void setUp() {
+        writeBehindTodoService = new WriteBehindTodoService();
+        ReflectionTestUtils.setField(writeBehindTodoService, "delegate", delegate);
+        ReflectionTestUtils.setField(writeBehindTodoService, "transactionTemplate", new TransactionTemplate(transactionManager));
+        ReflectionTestUtils.setField(writeBehindTodoService, "meterRegistry", meterRegistry);
+        ReflectionTestUtils.setField(writeBehindTodoService, "cacheManager", cacheManager);
+        ReflectionTestUtils.setField(writeBehindTodoService, "maxPending", 3);
+        ReflectionTestUtils.setField(writeBehindTodoService, "maxAttempts", 2);
+        writeBehindTodoService.init();
+
+        when(delegate.getToDoById(1L)).thenReturn(todo(1L));
+        when(delegate.getToDoById(2L)).thenReturn(todo(2L));
+        when(delegate.getToDoById(3L)).thenReturn(todo(3L));
+    }
+
+    @Test
+    void testUpdates_CoalescedIntoOneWrite() {
+        writeBehindTodoService.updateTodoById(1L, changes("Pick up"));
+        TodoDto acknowledged = writeBehindTodoService.updateTodoById(1L, changes("Pick up friends"));
+        TodoDto statusChange = new TodoDto();
+        statusChange.setStatus(TodoStatus.DONE);
+        writeBehindTodoService.updateTodoById(1L, statusChange);
+
+        assertEquals("Pick up friends", acknowledged.getDescription());
+        assertEquals(5L, acknowledged.getVersion());
+        assertEquals(TodoStatus.DONE, writeBehindTodoService.getToDoById(1L).getStatus());
+        assertEquals(5L, writeBehindTodoService.getTodoVersion(1L));
+        verify(delegate, never()).updateTodoById(any(), any());
+
+        writeBehindTodoService.flush();
+
+        ArgumentCaptor<TodoDto> written = ArgumentCaptor.forClass(TodoDto.class);
+        verify(delegate, times(1)).updateTodoById(eq(1L), written.capture());
+        assertEquals("Pick up friends", written.getValue().getDescription());
+        assertEquals(TodoStatus.DONE, written.getValue().getStatus());
+        assertNull(written.getValue().getTitle());
+        assertNull(written.getValue().getVersion());
+        verify(transactionManager, times(1)).commit(any());
+        assertEquals(2.0, meterRegistry.get("todo.write-behind.coalesced").counter().count());
+        assertEquals(0.0, meterRegistry.get("todo.write-behind.pending").gauge().value());
+    }
+
+    @Test
+    void testUpdate_UnknownIdRejectedImmediately() {
+        when(delegate.getToDoById(9L)).thenThrow(new TodoNotFoundException("Todo task not found with ID: 9"));
+
+        assertThrows(TodoNotFoundException.class, () -> writeBehindTodoService.updateTodoById(9L, changes("x")));
+        writeBehindTodoService.flush();
+
+        verify(delegate, never()).updateTodoById(any(), any());
+    }
+
+    @Test
+    void testUpdate_MaxPendingFlushesEarly() {
+        writeBehindTodoService.updateTodoById(1L, changes("a"));
+        writeBehindTodoService.updateTodoById(2L, changes("b"));
+        verify(delegate, never()).updateTodoById(any(), any());
+
+        writeBehindTodoService.updateTodoById(3L, changes("c"));
+
+        verify(delegate, times(3)).updateTodoById(any(), any());
+    }
+
+    @Test
+    void testUpdate_WithVersionFlushesAndWritesThrough() {
+        TodoDto conditional = changes("Checked");
+        conditional.setVersion(5L);
+        writeBehindTodoService.updateTodoById(1L, changes("Queued"));
+
+        writeBehindTodoService.updateTodoById(1L, conditional);
+
+        var order = inOrder(delegate);
+        order.verify(delegate).updateTodoById(eq(1L), argThat(todo -> "Queued".equals(todo.getDescription())));
+        order.verify(delegate).updateTodoById(1L, conditional);
+    }
+
+    @Test
+    void testDelete_DropsPendingUpdate() {
+        writeBehindTodoService.updateTodoById(1L, changes("Gone"));
+        writeBehindTodoService.updateTodoById(2L, changes("Gone too"));
+
+        writeBehindTodoService.deleteTodoById(1L);
+        writeBehindTodoService.deleteTodos(new TodoBulkDeleteDto(List.of(2L), null, null));
+        writeBehindTodoService.flush();
+
+        verify(delegate, never()).updateTodoById(any(), any());
+        verify(delegate).deleteTodoById(1L);
+    }
+
+    @Test
+    void testFlush_FailedBatchStaysPending() {
+        writeBehindTodoService.updateTodoById(1L, changes("First"));
+        when(delegate.updateTodoById(eq(1L), any())).thenThrow(new IllegalStateException("connection lost"));
+
+        writeBehindTodoService.flush();
+        writeBehindTodoService.updateTodoById(1L, changes("Second"));
+        reset(delegate);
+        writeBehindTodoService.flush();
+
+        ArgumentCaptor<TodoDto> written = ArgumentCaptor.forClass(TodoDto.class);
+        verify(delegate).updateTodoById(eq(1L), written.capture());
+        assertEquals("Second", written.getValue().getDescription());
+        verify(transactionManager).rollback(any());
+    }
+
+    @Test
+    void testFlush_FailingUpdateDoesNotHoldBackItsBatch() {
+        writeBehindTodoService.updateTodoById(1L, changes("Good"));
+        writeBehindTodoService.updateTodoById(2L, changes("Too long"));
+        when(delegate.updateTodoById(eq(2L), any())).thenThrow(new IllegalStateException("value too long"));
+
+        writeBehindTodoService.flush();
+
+        // Rolled back with the whole batch, then committed alone once the bad update was split off
+        verify(delegate, times(2)).updateTodoById(eq(1L), argThat(todo -> "Good".equals(todo.getDescription())));
+        verify(transactionManager).commit(any());
+        assertEquals("Too long", writeBehindTodoService.getToDoById(2L).getDescription());
+        assertEquals(1.0, meterRegistry.get("todo.write-behind.pending").gauge().value());
+
+        writeBehindTodoService.flush();
+
+        verify(delegate, times(2)).updateTodoById(eq(1L), any());
+        assertEquals(0.0, meterRegistry.get("todo.write-behind.pending").gauge().value());
+        assertEquals(1.0, meterRegistry.get("todo.write-behind.dropped").counter().count());
+        assertEquals("Pick up friends from airport", writeBehindTodoService.getToDoById(2L).getDescription());
+    }
+
+    @Test
+    void testFlush_EvictsTodoCachedBeforeCommit() {
+        writeBehindTodoService.updateTodoById(1L, changes("Pick up"));
+        // A read between the delegate's eviction and the commit caches the old row
+        when(delegate.updateTodoById(eq(1L), any())).thenAnswer(invocation -> {
+            cacheManager.getCache(CacheConfig.TODO_BY_ID_CACHE).put(1L, todo(1L));
+            return null;
+        });
+
+        writeBehindTodoService.flush();
+
+        verify(transactionManager, times(1)).commit(any());
+        assertNull(cacheManager.getCache(CacheConfig.TODO_BY_ID_CACHE).get(1L));
+    }
+
+    @Test
+    void testShutdown_FlushesPendingUpdates() {
+        writeBehindTodoService.updateTodoById(1L, changes("Before shutdown"));
+
+        writeBehindTodoService.shutdown();
+
+        verify(delegate).updateTodoById(eq(1L), any());
+    }
+
+    private TodoDto changes(String description) {
+        TodoDto changes = new TodoDto();
+        changes.setDescription(description);
+        return changes;
+    }
+
+    private TodoDto todo(long id) {
+        return new TodoDto(id, "Drive to airport", "Pick up friends from airport", TodoStatus.PENDING, TodoPriority.HIGH,
+                null, null, null, 4L);
+    }
+}